@@ -1,20 +1,31 @@
 package com.flipkart.hbaseobjectmapper;
 
 import com.flipkart.hbaseobjectmapper.codec.Codec;
+import com.flipkart.hbaseobjectmapper.exceptions.BadHBaseLibStateException;
 import com.google.common.reflect.TypeToken;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hbase.Cell;
-import org.apache.hadoop.hbase.CellUtil;
 import org.apache.hadoop.hbase.TableName;
 import org.apache.hadoop.hbase.client.*;
+import org.apache.hadoop.hbase.client.coprocessor.Batch;
+import org.apache.hadoop.hbase.filter.*;
+import org.apache.hadoop.hbase.io.TimeRange;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.hadoop.hbase.util.Pair;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.Serializable;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * A <i>Data Access Object</i> class that enables simple random access (read/write) of HBase rows.
@@ -34,11 +45,16 @@ import java.util.*;
 public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T extends HBRecord<R>> implements Closeable {
 
     protected final HBObjectMapper hbObjectMapper;
+    protected final Connection connection;
     protected final Table table;
     protected final Class<R> rowKeyClass;
     protected final Class<T> hbRecordClass;
     protected final WrappedHBTable<R, T> hbTable;
+    private final WrappedHBEntity<R, T> hbEntity;
     private final Map<String, Field> fields;
+    private ScanOptions scanOptions = new ScanOptions();
+    private final ChangeTracker<R, T> changeTracker;
+    private boolean dirtyFieldTracking;
 
     /**
      * Constructs a data access object using your custom {@link HBObjectMapper}
@@ -56,15 +72,17 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
         this.hbObjectMapper = hbObjectMapper;
         hbRecordClass = (Class<T>) new TypeToken<T>(getClass()) {
         }.getRawType();
-        this.hbObjectMapper.validateHBClass(hbRecordClass);
+        hbEntity = this.hbObjectMapper.validateHBClass(hbRecordClass);
         rowKeyClass = (Class<R>) new TypeToken<R>(getClass()) {
         }.getRawType();
         if (hbRecordClass == null || rowKeyClass == null) {
             throw new IllegalStateException(String.format("Unable to resolve HBase record/rowkey type (record class is resolving to %s and rowkey class is resolving to %s)", hbRecordClass, rowKeyClass));
         }
-        hbTable = new WrappedHBTable<>(hbRecordClass);
+        hbTable = hbEntity.getHBTable();
+        this.connection = connection;
         table = connection.getTable(hbTable.getName());
-        fields = hbObjectMapper.getHBColumnFields0(hbRecordClass);
+        fields = hbEntity.getFields();
+        changeTracker = new ChangeTracker<>(hbObjectMapper, hbEntity);
     }
 
 
@@ -147,8 +165,55 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      * @throws IOException When HBase call fails
      */
     public T get(R rowKey, int numVersionsToFetch) throws IOException {
-        Result result = this.table.get(new Get(toBytes(rowKey)).setMaxVersions(numVersionsToFetch));
-        return hbObjectMapper.readValue(rowKey, result, hbRecordClass);
+        return get(rowKey, numVersionsToFetch, null, null);
+    }
+
+    /**
+     * Get specified number of versions of a row from HBase table by it's row key, restricted to a range of timestamps (e.g. to read the row as it was at some point in the past, using {@link TimestampRange#asOf(long)})
+     * <br><br>
+     * Versions outside the range aren't transferred from HBase. Columns that don't have a version within the range are left <code>null</code>.
+     *
+     * @param rowKey             Row key
+     * @param numVersionsToFetch Number of versions to be retrieved (latest ones within the timestamp range)
+     * @param timestampRange     Range of timestamps to read versions from
+     * @return HBase row, deserialized as object of your bean-like class (<code>null</code> if row doesn't have any version within the range)
+     * @throws IOException When HBase call fails
+     * @see TimestampRange
+     */
+    public T get(R rowKey, int numVersionsToFetch, TimestampRange timestampRange) throws IOException {
+        return get(rowKey, numVersionsToFetch, null, timestampRange);
+    }
+
+    /**
+     * Get specified number of versions of specified fields of a row from HBase table by it's row key (only columns mapped to these fields are transferred from HBase)
+     *
+     * @param rowKey             Row key
+     * @param numVersionsToFetch Number of versions to be retrieved
+     * @param fieldNames         Names of fields to fetch
+     * @return HBase row, deserialized as a <b>partially populated</b> object of your bean-like class (fields other than the ones specified are left <code>null</code>)
+     * @throws IOException When HBase call fails
+     */
+    public T get(R rowKey, int numVersionsToFetch, Collection<String> fieldNames) throws IOException {
+        return get(rowKey, numVersionsToFetch, getColumns(fieldNames), null);
+    }
+
+    /**
+     * Get specified fields of a row from HBase table by it's row key (this is a projection variant of {@link #get(Serializable)})
+     *
+     * @param rowKey     Row key
+     * @param fieldNames Names of fields to fetch
+     * @return HBase row, deserialized as a <b>partially populated</b> object of your bean-like class
+     * @throws IOException When HBase call fails
+     * @see #get(Serializable, int, Collection)
+     */
+    public T get(R rowKey, Collection<String> fieldNames) throws IOException {
+        return get(rowKey, 1, fieldNames);
+    }
+
+    private T get(R rowKey, int numVersionsToFetch, List<WrappedHBColumn> projection, TimestampRange timestampRange) throws IOException {
+        Get get = newGet(rowKey, numVersionsToFetch, projection, timestampRange);
+        Result result = this.table.get(get);
+        return track(hbObjectMapper.readValue(rowKey, result, hbRecordClass), result, get);
     }
 
     /**
@@ -184,7 +249,7 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      */
     public T getOnGet(Get get) throws IOException {
         Result result = this.table.get(get);
-        return hbObjectMapper.readValue(result, hbRecordClass);
+        return track(hbObjectMapper.readValue(result, hbRecordClass), result, get);
     }
 
     /**
@@ -196,8 +261,8 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
     public List<T> getOnGets(List<Get> gets) throws IOException {
         Result[] results = this.table.get(gets);
         List<T> records = new ArrayList<>(results.length);
-        for (Result result : results) {
-            records.add(hbObjectMapper.readValue(result, hbRecordClass));
+        for (int i = 0; i < results.length; i++) {
+            records.add(track(hbObjectMapper.readValue(results[i], hbRecordClass), results[i], gets.get(i)));
         }
         return records;
     }
@@ -212,14 +277,57 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      * @throws IOException When HBase call fails
      */
     public T[] get(R[] rowKeys, int numVersionsToFetch) throws IOException {
+        return get(rowKeys, numVersionsToFetch, null, null);
+    }
+
+    /**
+     * Get specified number of versions of rows from HBase table by array of row keys, restricted to a range of timestamps (This method is a bulk variant of {@link #get(Serializable, int, TimestampRange)} method)
+     *
+     * @param rowKeys            Row keys to fetch
+     * @param numVersionsToFetch Number of versions of columns to fetch (latest ones within the timestamp range)
+     * @param timestampRange     Range of timestamps to read versions from
+     * @return Array of HBase rows, deserialized as object of your bean-like class (that implements {@link HBRecord})
+     * @throws IOException When HBase call fails
+     * @see TimestampRange
+     */
+    public T[] get(R[] rowKeys, int numVersionsToFetch, TimestampRange timestampRange) throws IOException {
+        return get(rowKeys, numVersionsToFetch, null, timestampRange);
+    }
+
+    /**
+     * Get specified number of versions of specified fields of rows from HBase table by array of row keys (This method is a bulk variant of {@link #get(Serializable, int, Collection)} method)
+     *
+     * @param rowKeys            Row keys to fetch
+     * @param numVersionsToFetch Number of versions of columns to fetch
+     * @param fieldNames         Names of fields to fetch
+     * @return Array of HBase rows, deserialized as <b>partially populated</b> objects of your bean-like class
+     * @throws IOException When HBase call fails
+     */
+    public T[] get(R[] rowKeys, int numVersionsToFetch, Collection<String> fieldNames) throws IOException {
+        return get(rowKeys, numVersionsToFetch, getColumns(fieldNames), null);
+    }
+
+    /**
+     * Get specified fields of rows from HBase table by array of row keys (This method is a bulk variant of {@link #get(Serializable, Collection)} method)
+     *
+     * @param rowKeys    Row keys to fetch
+     * @param fieldNames Names of fields to fetch
+     * @return Array of HBase rows, deserialized as <b>partially populated</b> objects of your bean-like class
+     * @throws IOException When HBase call fails
+     */
+    public T[] get(R[] rowKeys, Collection<String> fieldNames) throws IOException {
+        return get(rowKeys, 1, fieldNames);
+    }
+
+    private T[] get(R[] rowKeys, int numVersionsToFetch, List<WrappedHBColumn> projection, TimestampRange timestampRange) throws IOException {
         List<Get> gets = new ArrayList<>(rowKeys.length);
         for (R rowKey : rowKeys) {
-            gets.add(new Get(toBytes(rowKey)).setMaxVersions(numVersionsToFetch));
+            gets.add(newGet(rowKey, numVersionsToFetch, projection, timestampRange));
         }
         Result[] results = this.table.get(gets);
         @SuppressWarnings("unchecked") T[] records = (T[]) Array.newInstance(hbRecordClass, rowKeys.length);
         for (int i = 0; i < records.length; i++) {
-            records[i] = hbObjectMapper.readValue(rowKeys[i], results[i], hbRecordClass);
+            records[i] = track(hbObjectMapper.readValue(rowKeys[i], results[i], hbRecordClass), results[i], gets.get(i));
         }
         return records;
     }
@@ -244,14 +352,45 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      * @throws IOException When HBase call fails
      */
     public List<T> get(List<R> rowKeys, int numVersionsToFetch) throws IOException {
+        return get(rowKeys, numVersionsToFetch, null, null);
+    }
+
+    /**
+     * Get specified number of versions of rows from HBase table by list of row keys, restricted to a range of timestamps (This method is a bulk variant of {@link #get(Serializable, int, TimestampRange)} method)
+     *
+     * @param rowKeys            Row keys to fetch
+     * @param numVersionsToFetch Number of versions of columns to fetch (latest ones within the timestamp range)
+     * @param timestampRange     Range of timestamps to read versions from
+     * @return List of rows corresponding to row keys passed, deserialized as objects of your bean-like class
+     * @throws IOException When HBase call fails
+     * @see TimestampRange
+     */
+    public List<T> get(List<R> rowKeys, int numVersionsToFetch, TimestampRange timestampRange) throws IOException {
+        return get(rowKeys, numVersionsToFetch, null, timestampRange);
+    }
+
+    /**
+     * Get specified number of versions of specified fields of rows from HBase table by list of row keys (This method is a bulk variant of {@link #get(Serializable, int, Collection)} method)
+     *
+     * @param rowKeys            Row keys to fetch
+     * @param numVersionsToFetch Number of versions of columns to fetch
+     * @param fieldNames         Names of fields to fetch
+     * @return List of rows corresponding to row keys passed, deserialized as <b>partially populated</b> objects of your bean-like class
+     * @throws IOException When HBase call fails
+     */
+    public List<T> get(List<R> rowKeys, int numVersionsToFetch, Collection<String> fieldNames) throws IOException {
+        return get(rowKeys, numVersionsToFetch, getColumns(fieldNames), null);
+    }
+
+    private List<T> get(List<R> rowKeys, int numVersionsToFetch, List<WrappedHBColumn> projection, TimestampRange timestampRange) throws IOException {
         List<Get> gets = new ArrayList<>(rowKeys.size());
         for (R rowKey : rowKeys) {
-            gets.add(new Get(toBytes(rowKey)).setMaxVersions(numVersionsToFetch));
+            gets.add(newGet(rowKey, numVersionsToFetch, projection, timestampRange));
         }
         Result[] results = this.table.get(gets);
         List<T> records = new ArrayList<>(rowKeys.size());
-        for (Result result : results) {
-            records.add(hbObjectMapper.readValue(result, hbRecordClass));
+        for (int i = 0; i < results.length; i++) {
+            records.add(track(hbObjectMapper.readValue(results[i], hbRecordClass), results[i], gets.get(i)));
         }
         return records;
     }
@@ -267,6 +406,220 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
         return get(rowKeys, 1);
     }
 
+    /**
+     * Get specified number of versions of rows from HBase table by list of row keys, delivering each row to given callback as soon as it's region server responds (This method is a streaming variant of {@link #get(List, int)} method)
+     * <br><br>
+     * Unlike {@link #get(List, int)}, which returns after the slowest region server responds, this lets you process rows while others are still being fetched. Rows are deserialized on threads of HBase client library, and the callback is invoked on them too (see {@link RecordCallback}).
+     * <br><br>
+     * This method returns after all rows are delivered. Duplicate row keys are fetched (and delivered) once.
+     *
+     * @param rowKeys            Row keys to fetch
+     * @param numVersionsToFetch Number of versions of columns to fetch
+     * @param callback           Callback that receives rows (in no particular order)
+     * @throws IOException When HBase call fails (rows that were fetched before the failure are delivered nevertheless)
+     */
+    public void get(List<R> rowKeys, int numVersionsToFetch, final RecordCallback<R, T> callback) throws IOException {
+        final NavigableMap<byte[], R> rowKeysByBytes = new TreeMap<>(Bytes.BYTES_COMPARATOR);
+        List<Get> gets = new ArrayList<>(rowKeys.size());
+        for (R rowKey : rowKeys) {
+            Get get = newGet(rowKey, numVersionsToFetch, null);
+            if (rowKeysByBytes.put(get.getRow(), rowKey) == null) {
+                gets.add(get);
+            }
+        }
+        final RuntimeException[] callbackFailure = new RuntimeException[1];
+        try {
+            table.batchCallback(gets, new Object[gets.size()], new Batch.Callback<Result>() {
+                @Override
+                public void update(byte[] region, byte[] row, Result result) {
+                    final R rowKey = rowKeysByBytes.get(row);
+                    try {
+                        callback.onRecord(rowKey, track(hbObjectMapper.readValue(rowKey, result, hbRecordClass), result, null));
+                    } catch (RuntimeException e) {
+                        synchronized (callbackFailure) {
+                            if (callbackFailure[0] == null) {
+                                callbackFailure[0] = e;
+                            }
+                        }
+                    }
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for rows from HBase");
+        }
+        synchronized (callbackFailure) {
+            if (callbackFailure[0] != null) {
+                throw callbackFailure[0];
+            }
+        }
+    }
+
+    /**
+     * Get rows from HBase table by list of row keys, delivering each row to given callback as soon as it's region server responds (This method is a single-version variant of {@link #get(List, int, RecordCallback)} method)
+     *
+     * @param rowKeys  Row keys to fetch
+     * @param callback Callback that receives rows (in no particular order)
+     * @throws IOException When HBase call fails
+     */
+    public void get(List<R> rowKeys, RecordCallback<R, T> callback) throws IOException {
+        get(rowKeys, 1, callback);
+    }
+
+    /**
+     * Get specified number of versions of rows from HBase table by list of row keys, in chunks that are fetched concurrently (This method is a variant of {@link #get(List, int)} method, meant for very large lists of row keys)
+     * <br><br>
+     * Row keys are de-duplicated and split into chunks of (at most) <code>chunkSize</code> row keys. Each chunk is fetched by a separate multi-get, with at most <code>parallelism</code> multi-gets in flight at a time (each using it's own {@link Table}, obtained from the {@link Connection}).
+     *
+     * @param rowKeys            Row keys to fetch (may contain duplicates)
+     * @param numVersionsToFetch Number of versions of columns to fetch
+     * @param chunkSize          Maximum number of row keys per multi-get
+     * @param parallelism        Maximum number of multi-gets to run concurrently
+     * @return List of rows corresponding to row keys passed (in same order, with <code>null</code> for rows that don't exist), deserialized as objects of your bean-like class. Duplicate row keys map to the same object.
+     * @throws IOException When HBase call fails (for any chunk)
+     */
+    public List<T> get(List<R> rowKeys, int numVersionsToFetch, int chunkSize, int parallelism) throws IOException {
+        return new ArrayList<>(Arrays.asList(getInChunks(rowKeys, numVersionsToFetch, chunkSize, parallelism)));
+    }
+
+    /**
+     * Get specified number of versions of rows from HBase table by array of row keys, in chunks that are fetched concurrently (This method is an array variant of {@link #get(List, int, int, int)} method)
+     *
+     * @param rowKeys            Row keys to fetch (may contain duplicates)
+     * @param numVersionsToFetch Number of versions of columns to fetch
+     * @param chunkSize          Maximum number of row keys per multi-get
+     * @param parallelism        Maximum number of multi-gets to run concurrently
+     * @return Array of rows corresponding to row keys passed (in same order, with <code>null</code> for rows that don't exist), deserialized as objects of your bean-like class
+     * @throws IOException When HBase call fails (for any chunk)
+     */
+    public T[] get(R[] rowKeys, int numVersionsToFetch, int chunkSize, int parallelism) throws IOException {
+        return getInChunks(Arrays.asList(rowKeys), numVersionsToFetch, chunkSize, parallelism);
+    }
+
+    private static void validateChunking(int chunkSize, int parallelism) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException(String.format("Chunk size must be a positive number (passed value: %d)", chunkSize));
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException(String.format("Parallelism must be a positive number (passed value: %d)", parallelism));
+        }
+    }
+
+    private T[] getInChunks(List<R> rowKeys, final int numVersionsToFetch, int chunkSize, int parallelism) throws IOException {
+        validateChunking(chunkSize, parallelism);
+        Map<R, Integer> distinctIndexes = new HashMap<>(rowKeys.size());
+        final List<R> distinctRowKeys = new ArrayList<>(rowKeys.size());
+        int[] indexes = new int[rowKeys.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            R rowKey = rowKeys.get(i);
+            Integer index = distinctIndexes.get(rowKey);
+            if (index == null) {
+                index = distinctRowKeys.size();
+                distinctIndexes.put(rowKey, index);
+                distinctRowKeys.add(rowKey);
+            }
+            indexes[i] = index;
+        }
+        final T[] distinctRecords = newArray(distinctRowKeys.size());
+        final int numChunks = (distinctRowKeys.size() + chunkSize - 1) / chunkSize;
+        if (numChunks <= 1 || parallelism == 1) {
+            for (int from = 0; from < distinctRowKeys.size(); from += chunkSize) {
+                getChunk(table, distinctRowKeys.subList(from, Math.min(from + chunkSize, distinctRowKeys.size())), numVersionsToFetch, distinctRecords, from);
+            }
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, numChunks), new DaemonThreadFactory("get", hbTable.toString()));
+            try {
+                List<Future<Void>> futures = new ArrayList<>(numChunks);
+                for (int from = 0; from < distinctRowKeys.size(); from += chunkSize) {
+                    final int offset = from;
+                    final List<R> chunk = distinctRowKeys.subList(from, Math.min(from + chunkSize, distinctRowKeys.size()));
+                    futures.add(executor.submit(new Callable<Void>() {
+                        @Override
+                        public Void call() throws IOException {
+                            try (Table chunkTable = connection.getTable(hbTable.getName())) {
+                                getChunk(chunkTable, chunk, numVersionsToFetch, distinctRecords, offset);
+                            }
+                            return null;
+                        }
+                    }));
+                }
+                for (Future<Void> future : futures) {
+                    awaitChunk(future);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        T[] records = newArray(indexes.length);
+        for (int i = 0; i < indexes.length; i++) {
+            records[i] = distinctRecords[indexes[i]];
+        }
+        return records;
+    }
+
+    private void getChunk(Table table, List<R> rowKeys, int numVersionsToFetch, T[] records, int offset) throws IOException {
+        List<Get> gets = new ArrayList<>(rowKeys.size());
+        for (R rowKey : rowKeys) {
+            gets.add(newGet(rowKey, numVersionsToFetch, null));
+        }
+        Result[] results = table.get(gets);
+        for (int i = 0; i < results.length; i++) {
+            records[offset + i] = track(hbObjectMapper.readValue(rowKeys.get(i), results[i], hbRecordClass), results[i], null);
+        }
+    }
+
+    /**
+     * Waits for a chunk (of a multi-get) to complete, rethrowing it's failure (if any)
+     */
+    private static void awaitChunk(Future<?> future) throws IOException {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a multi-get to complete");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Remember a record as it was read, if dirty field tracking is enabled and the read wasn't restricted to a range of timestamps (persisting a record that reflects an older state of the row must write all it's columns)
+     *
+     * @param query The {@link Get} or {@link Scan} the record was read with (<code>null</code> for reads not restricted to a range of timestamps)
+     */
+    private T track(T record, Result result, Query query) {
+        if (dirtyFieldTracking && (query == null || timeRangeOf(query).isAllTime())) {
+            changeTracker.track(record, result);
+        }
+        return record;
+    }
+
+    private static TimeRange timeRangeOf(Query query) {
+        return query instanceof Get ? ((Get) query).getTimeRange() : ((Scan) query).getTimeRange();
+    }
+
+    private Records.RecordReader<T> recordReader(final Scan scan) {
+        return new Records.RecordReader<T>() {
+            @Override
+            public T read(Result result) {
+                return track(hbObjectMapper.readValue(result, hbRecordClass), result, scan);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] newArray(int length) {
+        return (T[]) Array.newInstance(hbRecordClass, length);
+    }
+
     /**
      * Get specified number of versions of rows from HBase table by a range of row keys (start and end) - this is a multi-version variant of {@link #get(Serializable, Serializable)}
      *
@@ -277,170 +630,1057 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      * @throws IOException When HBase call fails
      */
     public List<T> get(R startRowKey, R endRowKey, int numVersionsToFetch) throws IOException {
-        Scan scan = new Scan(toBytes(startRowKey), toBytes(endRowKey)).setMaxVersions(numVersionsToFetch);
-        ResultScanner scanner = table.getScanner(scan);
+        return get(startRowKey, endRowKey, numVersionsToFetch, null, null);
+    }
+
+    /**
+     * Get specified number of versions of rows from HBase table by a range of row keys (start and end), restricted to a range of timestamps - this is a variant of {@link #get(Serializable, Serializable, int)}
+     *
+     * @param startRowKey        Row start
+     * @param endRowKey          Row end
+     * @param numVersionsToFetch Number of versions to fetch (latest ones within the timestamp range)
+     * @param timestampRange     Range of timestamps to read versions from
+     * @return List of rows in the range (that have a version within the timestamp range), deserialized as objects of your bean-like class
+     * @throws IOException When HBase call fails
+     * @see TimestampRange
+     */
+    public List<T> get(R startRowKey, R endRowKey, int numVersionsToFetch, TimestampRange timestampRange) throws IOException {
+        return get(startRowKey, endRowKey, numVersionsToFetch, null, timestampRange);
+    }
+
+    /**
+     * Get specified number of versions of specified fields of rows from HBase table by a range of row keys (start and end) - this is a projection variant of {@link #get(Serializable, Serializable, int)}
+     *
+     * @param startRowKey        Row start
+     * @param endRowKey          Row end
+     * @param numVersionsToFetch Number of versions to fetch
+     * @param fieldNames         Names of fields to fetch
+     * @return List of rows in the range, deserialized as <b>partially populated</b> objects of your bean-like class
+     * @throws IOException When HBase call fails
+     */
+    public List<T> get(R startRowKey, R endRowKey, int numVersionsToFetch, Collection<String> fieldNames) throws IOException {
+        return get(startRowKey, endRowKey, numVersionsToFetch, getColumns(fieldNames), null);
+    }
+
+    /**
+     * Get specified fields of rows from HBase table by a range of row keys (start and end) - this is a projection variant of {@link #get(Serializable, Serializable)}
+     *
+     * @param startRowKey Row start
+     * @param endRowKey   Row end
+     * @param fieldNames  Names of fields to fetch
+     * @return List of rows in the range, deserialized as <b>partially populated</b> objects of your bean-like class
+     * @throws IOException When HBase call fails
+     */
+    public List<T> get(R startRowKey, R endRowKey, Collection<String> fieldNames) throws IOException {
+        return get(startRowKey, endRowKey, 1, fieldNames);
+    }
+
+    private List<T> get(R startRowKey, R endRowKey, int numVersionsToFetch, List<WrappedHBColumn> projection, TimestampRange timestampRange) throws IOException {
+        return getOnScan(newScan(startRowKey, endRowKey, numVersionsToFetch, projection, null, timestampRange));
+    }
+
+    /**
+     * Get specified number of versions of rows from HBase table by a range of row keys (start and end), with scan tuned as per given options - this is a variant of {@link #get(Serializable, Serializable, int)}
+     *
+     * @param startRowKey        Row start
+     * @param endRowKey          Row end
+     * @param numVersionsToFetch Number of versions to fetch
+     * @param scanOptions        Scan options (these override options set for this DAO)
+     * @return List of rows in the range, deserialized as objects of your bean-like class
+     * @throws IOException When HBase call fails
+     * @see ScanOptions
+     */
+    public List<T> get(R startRowKey, R endRowKey, int numVersionsToFetch, ScanOptions scanOptions) throws IOException {
+        return getOnScan(newScan(startRowKey, endRowKey, numVersionsToFetch, null, scanOptions));
+    }
+
+    private List<T> getOnScan(Scan scan) throws IOException {
         List<T> records = new ArrayList<>();
-        for (Result result : scanner) {
-            records.add(hbObjectMapper.readValue(result, hbRecordClass));
+        try (Records<T> recordsInRange = records(scan)) {
+            for (T record : recordsInRange) {
+                records.add(record);
+            }
         }
         return records;
     }
 
-    private WrappedHBColumn validateAndGetLongColumn(String fieldName) {
-        Field field = getField(fieldName);
-        if (!Long.class.equals(field.getType())) {
-            throw new IllegalArgumentException(String.format("Invalid attempt to increment a non-Long field (%s.%s)", hbRecordClass.getName(), fieldName));
+    /**
+     * Creates an HBase {@link Scan} object for a range of row keys (start and end), for enabling specialised read of HBase rows (e.g. with custom caching or max result size)
+     * <br><br>
+     * Typically, this is used in {@link #records(Scan)} method
+     *
+     * @param startRowKey Row start
+     * @param endRowKey   Row end
+     * @return HBase's Scan object
+     * @see #records(Scan)
+     */
+    public Scan getScan(R startRowKey, R endRowKey) {
+        return new Scan(toBytes(startRowKey), toBytes(endRowKey));
+    }
+
+    /**
+     * Read rows for a given {@link Scan} object lazily, i.e. one row at a time as they arrive from HBase (unlike {@link #get(Serializable, Serializable)}, which holds all rows of the range in memory)
+     * <br><br>
+     * <b>Note</b>: The returned object holds an HBase scanner, which must be closed (preferably, using a <code>try</code>-with-resources block). Use {@link Scan#setCaching(int)} and {@link Scan#setMaxResultSize(long)} to control how many rows are fetched per round trip. The scan is used as is (i.e. unlike range reads by row keys, it isn't restricted to column families declared in {@link HBTable} annotation).
+     *
+     * @param scan HBase's Scan object, typically formed using the {@link #getScan(Serializable, Serializable) getScan} method
+     * @return Rows, deserialized as objects of your bean-like class
+     * @throws IOException When HBase call fails
+     * @see Records
+     */
+    public Records<T> records(Scan scan) throws IOException {
+        return new Records<>(table.getScanner(scan), recordReader(scan));
+    }
+
+    /**
+     * Read rows for a given {@link Scan} object by scanning regions of the table in parallel: the range of the scan is split at region boundaries and the resulting sub-ranges are scanned concurrently on at most <code>parallelism</code> threads (this is a parallel variant of {@link #records(Scan)})
+     * <br><br>
+     * <b>Note</b>: <ul>
+     * <li>Each sub-range is scanned with a copy of the given scan (so caching, filters etc. apply to each of them) using it's own {@link Table}, obtained from the {@link Connection}</li>
+     * <li>Rows are deserialized on scanning threads and are buffered (up to a limit per queue) till they are read. A slow reader throttles the scans.</li>
+     * <li>Just like {@link #records(Scan)}, the returned object must be closed after use: this stops the scans and their threads</li>
+     * </ul>
+     *
+     * @param scan        HBase's Scan object, typically formed using the {@link #getScan(Serializable, Serializable) getScan} method
+     * @param parallelism Maximum number of regions to scan concurrently
+     * @param ordered     If <code>true</code>, rows are returned in order of row keys (i.e. regions are read one after another, while later regions are prefetched); if <code>false</code>, rows are returned as soon as they arrive from any region
+     * @return Rows, deserialized as objects of your bean-like class
+     * @throws IOException When HBase call (for locating regions) fails
+     * @see #records(Scan)
+     */
+    public Records<T> records(Scan scan, int parallelism, boolean ordered) throws IOException {
+        List<Scan> subScans;
+        try (RegionLocator regionLocator = connection.getRegionLocator(hbTable.getName())) {
+            Pair<byte[][], byte[][]> startEndKeys = regionLocator.getStartEndKeys();
+            subScans = ParallelScanner.split(scan, startEndKeys.getFirst(), startEndKeys.getSecond());
+        }
+        return new Records<>(new ParallelScanner<>(connection, hbTable.getName(), subScans, recordReader(scan), parallelism, ordered));
+    }
+
+    /**
+     * Read specified number of versions of rows for a range of row keys (start and end) by scanning regions of the table in parallel - this is a parallel variant of {@link #records(Serializable, Serializable, int)}
+     *
+     * @param startRowKey        Row start
+     * @param endRowKey          Row end
+     * @param numVersionsToFetch Number of versions to fetch
+     * @param parallelism        Maximum number of regions to scan concurrently
+     * @param ordered            Whether rows should be returned in order of row keys (see {@link #records(Scan, int, boolean)})
+     * @return Rows, deserialized as objects of your bean-like class (must be closed after use)
+     * @throws IOException When HBase call fails
+     * @see #records(Scan, int, boolean)
+     */
+    public Records<T> records(R startRowKey, R endRowKey, int numVersionsToFetch, int parallelism, boolean ordered) throws IOException {
+        return records(newScan(startRowKey, endRowKey, numVersionsToFetch, null, null), parallelism, ordered);
+    }
+
+    /**
+     * Read specified number of versions of rows lazily for a range of row keys (start and end) - this is a streaming variant of {@link #get(Serializable, Serializable, int)}
+     *
+     * @param startRowKey        Row start
+     * @param endRowKey          Row end
+     * @param numVersionsToFetch Number of versions to fetch
+     * @return Rows, deserialized as objects of your bean-like class (must be closed after use)
+     * @throws IOException When HBase call fails
+     * @see #records(Scan)
+     */
+    public Records<T> records(R startRowKey, R endRowKey, int numVersionsToFetch) throws IOException {
+        return records(newScan(startRowKey, endRowKey, numVersionsToFetch, null, null));
+    }
+
+    /**
+     * Read specified number of versions of rows lazily for a range of row keys (start and end), with scan tuned as per given options - this is a variant of {@link #records(Serializable, Serializable, int)}
+     *
+     * @param startRowKey        Row start
+     * @param endRowKey          Row end
+     * @param numVersionsToFetch Number of versions to fetch
+     * @param scanOptions        Scan options (these override options set for this DAO)
+     * @return Rows, deserialized as objects of your bean-like class (must be closed after use)
+     * @throws IOException When HBase call fails
+     * @see ScanOptions
+     */
+    public Records<T> records(R startRowKey, R endRowKey, int numVersionsToFetch, ScanOptions scanOptions) throws IOException {
+        return records(newScan(startRowKey, endRowKey, numVersionsToFetch, null, scanOptions));
+    }
+
+    /**
+     * Read specified number of versions of rows lazily for a range of row keys (start and end), restricted to a range of timestamps - this is a variant of {@link #records(Serializable, Serializable, int)}
+     *
+     * @param startRowKey        Row start
+     * @param endRowKey          Row end
+     * @param numVersionsToFetch Number of versions to fetch (latest ones within the timestamp range)
+     * @param timestampRange     Range of timestamps to read versions from
+     * @return Rows, deserialized as objects of your bean-like class (must be closed after use)
+     * @throws IOException When HBase call fails
+     * @see TimestampRange
+     */
+    public Records<T> records(R startRowKey, R endRowKey, int numVersionsToFetch, TimestampRange timestampRange) throws IOException {
+        return records(newScan(startRowKey, endRowKey, numVersionsToFetch, null, null, timestampRange));
+    }
+
+    /**
+     * Read specified number of versions of specified fields of rows lazily for a range of row keys (start and end) - this is a projection variant of {@link #records(Serializable, Serializable, int)}
+     *
+     * @param startRowKey        Row start
+     * @param endRowKey          Row end
+     * @param numVersionsToFetch Number of versions to fetch
+     * @param fieldNames         Names of fields to fetch
+     * @return Rows, deserialized as <b>partially populated</b> objects of your bean-like class (must be closed after use)
+     * @throws IOException When HBase call fails
+     */
+    public Records<T> records(R startRowKey, R endRowKey, int numVersionsToFetch, Collection<String> fieldNames) throws IOException {
+        return records(newScan(startRowKey, endRowKey, numVersionsToFetch, getColumns(fieldNames), null));
+    }
+
+    /**
+     * Read rows lazily for a range of row keys (start and end) - this is a streaming variant of {@link #get(Serializable, Serializable)}
+     *
+     * @param startRowKey Row start
+     * @param endRowKey   Row end
+     * @return Rows, deserialized as objects of your bean-like class (must be closed after use)
+     * @throws IOException When HBase call fails
+     * @see #records(Scan)
+     */
+    public Records<T> records(R startRowKey, R endRowKey) throws IOException {
+        return records(startRowKey, endRowKey, 1);
+    }
+
+    /**
+     * Check whether a row exists in HBase table (only column families declared in {@link HBTable} annotation are considered). No data is transferred from HBase.
+     *
+     * @param rowKey Row key
+     * @return <code>true</code> if row exists
+     * @throws IOException When HBase call fails
+     */
+    public boolean exists(R rowKey) throws IOException {
+        return table.exists(newGet(rowKey, 1, null));
+    }
+
+    /**
+     * Check whether rows exist in HBase table (this is a bulk variant of {@link #exists(Serializable)})
+     *
+     * @param rowKeys Row keys
+     * @return Array of flags, in same order as row keys passed
+     * @throws IOException When HBase call fails
+     */
+    public boolean[] existsAll(List<R> rowKeys) throws IOException {
+        List<Get> gets = new ArrayList<>(rowKeys.size());
+        for (R rowKey : rowKeys) {
+            gets.add(newGet(rowKey, 1, null));
+        }
+        return table.existsAll(gets);
+    }
+
+    /**
+     * Count rows in a range of row keys (start and end). Only first key of each row is transferred from HBase (without it's value).
+     * <br><br>
+     * <b>Note</b>: This still scans the entire range on region servers. For large ranges, consider setting scan options (e.g. disabling block cache) on this DAO.
+     *
+     * @param startRowKey Row start
+     * @param endRowKey   Row end
+     * @return Number of rows
+     * @throws IOException When HBase call fails
+     */
+    public long count(R startRowKey, R endRowKey) throws IOException {
+        long count = 0;
+        try (ResultScanner scanner = table.getScanner(newKeyOnlyScan(startRowKey, endRowKey))) {
+            for (Result result : scanner) {
+                if (!result.isEmpty()) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Read row keys lazily for a range of row keys (start and end). Only first key of each row is transferred from HBase (without it's value) and no object of your bean-like class is created.
+     *
+     * @param startRowKey Row start
+     * @param endRowKey   Row end
+     * @return Row keys (must be closed after use)
+     * @throws IOException When HBase call fails
+     * @see RowKeys
+     */
+    public RowKeys<R> keys(R startRowKey, R endRowKey) throws IOException {
+        return new RowKeys<>(table.getScanner(newKeyOnlyScan(startRowKey, endRowKey)), hbObjectMapper, hbEntity);
+    }
+
+    private Scan newKeyOnlyScan(R startRowKey, R endRowKey) throws IOException {
+        return newScan(startRowKey, endRowKey, 1, null, null).setFilter(new FilterList(FilterList.Operator.MUST_PASS_ALL, new FirstKeyOnlyFilter(), new KeyOnlyFilter()));
+    }
+
+    /**
+     * Get a page of rows from HBase table for a range of row keys (start and end). To fetch the next page, call this method again with the same range and the continuation token of the previous page.
+     * <br><br>
+     * Unlike slicing a list returned by {@link #get(Serializable, Serializable)}, this reads (at most) one row more than a page from HBase: the scan resumes where the previous page ended and page size is enforced on region servers (using {@link PageFilter}).
+     *
+     * @param startRowKey       Row start
+     * @param endRowKey         Row end
+     * @param limit             Maximum number of rows in page
+     * @param continuationToken Continuation token returned with the previous page (<code>null</code> for first page)
+     * @return Page of rows, deserialized as objects of your bean-like class
+     * @throws IOException              When HBase call fails
+     * @throws IllegalArgumentException If continuation token is invalid or doesn't belong to the range
+     * @see Page
+     */
+    public Page<T> page(R startRowKey, R endRowKey, int limit, String continuationToken) throws IOException {
+        if (limit <= 0 || limit == Integer.MAX_VALUE) { // one row more than a page is read
+            throw new IllegalArgumentException(String.format("Page size must be a positive number less than %d (passed value: %d)", Integer.MAX_VALUE, limit));
+        }
+        Scan scan = newScan(startRowKey, endRowKey, 1, null, new ScanOptions().withCaching(limit + 1));
+        scan.setBatch(-1); // HBase rejects row-level filters (like PageFilter) on scans that read rows in batches, hence batch (if any) of this DAO's scan options is cleared
+        if (continuationToken != null) {
+            final byte[] resumeRow = Page.fromToken(continuationToken), stopRow = scan.getStopRow();
+            if (Bytes.compareTo(resumeRow, scan.getStartRow()) < 0 || (stopRow.length > 0 && Bytes.compareTo(resumeRow, stopRow) >= 0)) {
+                throw new IllegalArgumentException(String.format("Continuation token '%s' doesn't belong to range [%s, %s)", continuationToken, startRowKey, endRowKey));
+            }
+            scan.setStartRow(resumeRow);
+        }
+        scan.setFilter(new PageFilter(limit + 1)); // one row more than a page, to know whether there is a next page
+        List<T> records = new ArrayList<>(limit);
+        byte[] nextStartRow = null;
+        try (ResultScanner scanner = table.getScanner(scan)) {
+            Iterator<Result> results = new RowStitchingIterator(scanner.iterator());
+            while (results.hasNext()) {
+                Result result = results.next();
+                if (records.size() == limit) {
+                    nextStartRow = result.getRow();
+                    break;
+                }
+                records.add(track(hbObjectMapper.readValue(result, hbRecordClass), result, scan));
+            }
+        }
+        return new Page<>(records, nextStartRow);
+    }
+
+    /**
+     * Translate a {@link Condition} on fields of your bean-like class to an HBase {@link Filter}, with values serialized the same way as fields are. This can be set on your own {@link Get} or {@link Scan} objects.
+     *
+     * @param condition Condition, e.g. <code>field("age").gt((short) 30).and(field("name").startsWith("A"))</code>
+     * @return HBase Filter
+     * @throws IllegalArgumentException If condition refers to an unrecognized field or compares it with a value of different type
+     * @see Condition
+     */
+    public Filter getFilter(Condition condition) {
+        return condition.toFilter(hbObjectMapper, hbEntity);
+    }
+
+    /**
+     * Read rows lazily for a range of row keys (start and end), that satisfy given condition (the condition is evaluated on HBase region servers)
+     *
+     * @param startRowKey Row start
+     * @param endRowKey   Row end
+     * @param condition   Condition on fields, e.g. <code>field("age").gt((short) 30)</code>
+     * @return Rows, deserialized as objects of your bean-like class (must be closed after use)
+     * @throws IOException When HBase call fails
+     * @see Condition
+     */
+    public Records<T> records(R startRowKey, R endRowKey, Condition condition) throws IOException {
+        return records(newScan(startRowKey, endRowKey, 1, null, null).setFilter(getFilter(condition)));
+    }
+
+    /**
+     * Get rows for a range of row keys (start and end), that satisfy given condition (the condition is evaluated on HBase region servers)
+     *
+     * @param startRowKey Row start
+     * @param endRowKey   Row end
+     * @param condition   Condition on fields, e.g. <code>field("age").gt((short) 30)</code>
+     * @return List of rows, deserialized as objects of your bean-like class
+     * @throws IOException When HBase call fails
+     * @see Condition
+     */
+    public List<T> get(R startRowKey, R endRowKey, Condition condition) throws IOException {
+        return getOnScan(newScan(startRowKey, endRowKey, 1, null, null).setFilter(getFilter(condition)));
+    }
+
+    /**
+     * Creates a {@link Get} restricted to either the columns of given fields or (if no fields are given) the column families declared in {@link HBTable} annotation
+     */
+    private Get newGet(R rowKey, int numVersionsToFetch, List<WrappedHBColumn> projection) throws IOException {
+        return newGet(rowKey, numVersionsToFetch, projection, null);
+    }
+
+    /**
+     * Creates a {@link Get} restricted as per {@link #newGet(Serializable, int, List)} and, if specified, to a range of timestamps
+     */
+    private Get newGet(R rowKey, int numVersionsToFetch, List<WrappedHBColumn> projection, TimestampRange timestampRange) throws IOException {
+        Get get = new Get(toBytes(rowKey)).setMaxVersions(numVersionsToFetch);
+        if (timestampRange != null) {
+            timestampRange.applyTo(get);
+        }
+        if (projection == null) {
+            for (byte[] family : hbTable.getFamiliesBytes()) {
+                get.addFamily(family);
+            }
+        } else {
+            for (WrappedHBColumn hbColumn : projection) {
+                get.addColumn(hbColumn.familyBytes(), hbColumn.columnBytes());
+            }
+        }
+        return get;
+    }
+
+    /**
+     * Creates a {@link Scan} restricted the same way as {@link #newGet(Serializable, int, List)} and tuned as per options of this DAO, overridden by given options
+     */
+    private Scan newScan(R startRowKey, R endRowKey, int numVersionsToFetch, List<WrappedHBColumn> projection, ScanOptions scanOptions) throws IOException {
+        return newScan(startRowKey, endRowKey, numVersionsToFetch, projection, scanOptions, null);
+    }
+
+    /**
+     * Creates a {@link Scan} as per {@link #newScan(Serializable, Serializable, int, List, ScanOptions)}, restricted (if specified) to a range of timestamps
+     */
+    private Scan newScan(R startRowKey, R endRowKey, int numVersionsToFetch, List<WrappedHBColumn> projection, ScanOptions scanOptions, TimestampRange timestampRange) throws IOException {
+        Scan scan = this.scanOptions.overriddenBy(scanOptions).applyTo(getScan(startRowKey, endRowKey).setMaxVersions(numVersionsToFetch));
+        if (timestampRange != null) {
+            timestampRange.applyTo(scan);
+        }
+        if (projection == null) {
+            for (byte[] family : hbTable.getFamiliesBytes()) {
+                scan.addFamily(family);
+            }
+        } else {
+            for (WrappedHBColumn hbColumn : projection) {
+                scan.addColumn(hbColumn.familyBytes(), hbColumn.columnBytes());
+            }
+        }
+        return scan;
+    }
+
+    private List<WrappedHBColumn> getColumns(Collection<String> fieldNames) {
+        if (fieldNames == null || fieldNames.isEmpty()) {
+            throw new IllegalArgumentException("At least one field name must be specified");
+        }
+        List<WrappedHBColumn> hbColumns = new ArrayList<>(fieldNames.size());
+        for (String fieldName : fieldNames) {
+            hbColumns.add(getColumn(fieldName));
+        }
+        return hbColumns;
+    }
+
+    private WrappedHBColumn validateAndGetLongColumn(String fieldName) {
+        WrappedHBColumn hbColumn = getColumn(fieldName);
+        if (!Long.class.equals(hbColumn.field().getType())) {
+            throw new IllegalArgumentException(String.format("Invalid attempt to increment a non-Long field (%s.%s)", hbRecordClass.getName(), fieldName));
+        }
+        return hbColumn;
+    }
+
+    /**
+     * Increments field by specified amount
+     *
+     * @param rowKey    Row key of the record whose column needs to be incremented
+     * @param fieldName Field that needs to be incremented (this must be of {@link Long} type)
+     * @param amount    Amount by which the HBase column needs to be incremented
+     * @return The new value, post increment
+     * @throws IOException When HBase call fails
+     */
+    public long increment(R rowKey, String fieldName, long amount) throws IOException {
+        WrappedHBColumn hbColumn = validateAndGetLongColumn(fieldName);
+        final byte[] row = toBytes(rowKey);
+        try {
+            return table.incrementColumnValue(row, hbColumn.familyBytes(), hbColumn.columnBytes(), amount);
+        } finally {
+            changeTracker.invalidate(row);
+        }
+    }
+
+    /**
+     * Increments field by specified amount
+     *
+     * @param rowKey     Row key of the record whose column needs to be incremented
+     * @param fieldName Field that needs to be incremented (this must be of {@link Long} type)
+     * @param amount     Amount by which the HBase column needs to be incremented
+     * @param durability The persistence guarantee for this increment (see {@link Durability})
+     * @return The new value, post increment
+     * @throws IOException When HBase call fails
+     */
+    public long increment(R rowKey, String fieldName, long amount, Durability durability) throws IOException {
+        WrappedHBColumn hbColumn = validateAndGetLongColumn(fieldName);
+        final byte[] row = toBytes(rowKey);
+        try {
+            return table.incrementColumnValue(row, hbColumn.familyBytes(), hbColumn.columnBytes(), amount, durability);
+        } finally {
+            changeTracker.invalidate(row);
+        }
+    }
+
+    /**
+     * Gets (native) {@link Increment} object for given row key, to be later used in {@link #increment(Increment)} method.
+     *
+     * @param rowKey HBase row key
+     * @return Increment object
+     */
+    public Increment getIncrement(R rowKey) {
+        return new Increment(toBytes(rowKey));
+    }
+
+    /**
+     * Performs HBase {@link Table#increment} on the given {@link Increment} object <br>
+     * <br>
+     * <b>Note</b>: <ul>
+     *     <li>You may construct {@link Increment} object using the {@link #getIncrement(Serializable) getIncrement} method</li>
+     *     <li>Unlike the {@link #increment(Serializable, String, long)} methods, this method skips some validations (hence, be cautious)</li>
+     *     </ul>
+     *
+     * @param increment HBase Increment object
+     * @return <b>Partial object</b> containing (only) values that were incremented
+     * @throws IOException When HBase call fails
+     */
+    public T increment(Increment increment) throws IOException {
+        Result result;
+        try {
+            result = table.increment(increment);
+        } finally {
+            changeTracker.invalidate(increment.getRow());
+        }
+        return hbObjectMapper.readValue(result, hbRecordClass);
+    }
+
+    /**
+     * Get specified number of versions of rows from HBase table by a range of row keys (start to end)
+     *
+     * @param startRowKey Row start
+     * @param endRowKey   Row end
+     * @return List of rows corresponding to row keys passed, deserialized as objects of your bean-like class
+     * @throws IOException When HBase call fails
+     */
+    public List<T> get(R startRowKey, R endRowKey) throws IOException {
+        return get(startRowKey, endRowKey, 1);
+    }
+
+    /**
+     * Persist your bean-like object (of a class that implements {@link HBRecord}) to HBase table
+     * <br><br>
+     * If dirty field tracking is enabled (see {@link #setDirtyFieldTracking(boolean)}), only columns whose values have changed since the object was read (or last persisted) are written.
+     *
+     * @param record Object that needs to be persisted
+     * @return Row key of the persisted object, represented as a {@link String}
+     * @throws IOException When HBase call fails
+     */
+    public R persist(HBRecord<R> record) throws IOException {
+        if (dirtyFieldTracking) {
+            ChangeTracker.Changes changes = changeTracker.changes(record);
+            if (!changes.put.isEmpty()) {
+                table.put(changes.put);
+            }
+            changeTracker.persisted(record, changes);
+        } else {
+            Put put = hbObjectMapper.writeValueAsPut(record);
+            table.put(put);
+        }
+        return record.composeRowKey();
+    }
+
+    /**
+     * Persist a list of your bean-like objects (of a class that implements {@link HBRecord}) to HBase table (this is a bulk variant of {@link #persist(HBRecord)} method)
+     *
+     * @param records List of objects that needs to be persisted
+     * @return Row keys of the persisted objects, represented as a {@link String}
+     * @throws IOException When HBase call fails
+     */
+    public List<R> persist(List<T> records) throws IOException {
+        List<R> rowKeys = new ArrayList<>(records.size());
+        for (HBRecord<R> object : records) {
+            rowKeys.add(object.composeRowKey());
+        }
+        persist(table, records);
+        return rowKeys;
+    }
+
+    private void persist(Table table, List<T> records) throws IOException {
+        List<Put> puts = new ArrayList<>(records.size());
+        if (!dirtyFieldTracking) {
+            for (HBRecord<R> record : records) {
+                puts.add(hbObjectMapper.writeValueAsPut(record));
+            }
+            table.put(puts);
+            return;
+        }
+        List<ChangeTracker.Changes> changes = new ArrayList<>(records.size());
+        for (HBRecord<R> record : records) {
+            ChangeTracker.Changes recordChanges = changeTracker.changes(record);
+            changes.add(recordChanges);
+            if (!recordChanges.put.isEmpty()) {
+                puts.add(recordChanges.put);
+            }
+        }
+        if (!puts.isEmpty()) {
+            table.put(puts);
+        }
+        for (int i = 0; i < records.size(); i++) {
+            changeTracker.persisted(records.get(i), changes.get(i));
+        }
+    }
+
+    /**
+     * Persist your bean-like object to HBase table, deleting columns whose fields are <code>null</code> (unlike {@link #persist(HBRecord)}, which leaves such columns untouched)
+     * <br><br>
+     * Columns of non-null fields are written and (all versions of) columns of <code>null</code> fields are deleted in one atomic operation on the row (see {@link Table#mutateRow(RowMutations)}), i.e. in a single round trip and without readers seeing the row half-updated. If dirty field tracking is enabled (see {@link #setDirtyFieldTracking(boolean)}), only changed columns are written.
+     *
+     * @param record Object that needs to be persisted
+     * @return Row key of the persisted object
+     * @throws IOException When HBase call fails
+     */
+    public R update(HBRecord<R> record) throws IOException {
+        ChangeTracker.Changes changes = null;
+        Put put;
+        if (dirtyFieldTracking) {
+            changes = changeTracker.changes(record);
+            put = changes.put;
+        } else {
+            put = hbObjectMapper.writeValueAsPut(record);
+        }
+        Delete delete = hbObjectMapper.writeNullFieldsAsDelete(record, hbEntity);
+        if (delete.isEmpty()) {
+            if (!put.isEmpty()) {
+                table.put(put);
+            }
+        } else {
+            RowMutations rowMutations = new RowMutations(delete.getRow());
+            if (!put.isEmpty()) {
+                rowMutations.add(put);
+            }
+            rowMutations.add(delete);
+            table.mutateRow(rowMutations);
+        }
+        if (changes != null) {
+            changeTracker.persisted(record, changes);
+        }
+        return record.composeRowKey();
+    }
+
+    /**
+     * Persist your bean-like object to HBase table only if a field's value (in HBase) is as expected - the check and the write happen atomically on the region server (see {@link Table#checkAndPut(byte[], byte[], byte[], byte[], Put)})
+     * <br><br>
+     * This enables optimistic concurrency control without locks or a read before the write, e.g. <code>persistIf(order, "status", "PENDING")</code> persists the order only if no one has changed it's status in the meantime.
+     *
+     * @param record        Object that needs to be persisted
+     * @param fieldName     Name of (single-versioned) field to check
+     * @param expectedValue Expected value of the field (serialized the same way as the field is, i.e. as per codec and codec flags of the field), or <code>null</code> to expect the column to be absent (e.g. for 'insert if not exists')
+     * @return <code>true</code> if the field had the expected value (and hence the object was persisted), <code>false</code> otherwise
+     * @throws IOException              When HBase call fails
+     * @throws IllegalArgumentException If field is unrecognized or multi-versioned, or expected value is of a different type
+     */
+    public boolean persistIf(HBRecord<R> record, String fieldName, Object expectedValue) throws IOException {
+        WrappedHBColumn hbColumn = getColumn(fieldName);
+        byte[] expectedValueBytes = toExpectedValueBytes(hbColumn, expectedValue);
+        ChangeTracker.Changes changes = dirtyFieldTracking ? changeTracker.changes(record) : null;
+        Put put = toPut(record, changes);
+        boolean persisted = table.checkAndPut(put.getRow(), hbColumn.familyBytes(), hbColumn.columnBytes(), expectedValueBytes, put);
+        if (persisted && changes != null) {
+            changeTracker.persisted(record, changes);
+        }
+        return persisted;
+    }
+
+    /**
+     * Persist your bean-like object to HBase table, deleting columns whose fields are <code>null</code>, only if a field's value (in HBase) is as expected (this is a conditional variant of {@link #update(HBRecord)} - see {@link #persistIf(HBRecord, String, Object)} for details of the condition)
+     * <br><br>
+     * The check, the writes and the deletes happen atomically on the region server (see {@link Table#checkAndMutate(byte[], byte[], byte[], CompareFilter.CompareOp, byte[], RowMutations)}).
+     *
+     * @param record        Object that needs to be persisted
+     * @param fieldName     Name of (single-versioned) field to check
+     * @param expectedValue Expected value of the field, or <code>null</code> to expect the column to be absent
+     * @return <code>true</code> if the field had the expected value (and hence the object was persisted), <code>false</code> otherwise
+     * @throws IOException              When HBase call fails
+     * @throws IllegalArgumentException If field is unrecognized or multi-versioned, or expected value is of a different type
+     */
+    public boolean updateIf(HBRecord<R> record, String fieldName, Object expectedValue) throws IOException {
+        WrappedHBColumn hbColumn = getColumn(fieldName);
+        byte[] expectedValueBytes = toExpectedValueBytes(hbColumn, expectedValue);
+        ChangeTracker.Changes changes = dirtyFieldTracking ? changeTracker.changes(record) : null;
+        Put put = toPut(record, changes);
+        Delete delete = hbObjectMapper.writeNullFieldsAsDelete(record, hbEntity);
+        boolean persisted;
+        if (delete.isEmpty()) {
+            persisted = table.checkAndPut(put.getRow(), hbColumn.familyBytes(), hbColumn.columnBytes(), expectedValueBytes, put);
+        } else {
+            RowMutations rowMutations = new RowMutations(put.getRow());
+            rowMutations.add(put);
+            rowMutations.add(delete);
+            persisted = table.checkAndMutate(put.getRow(), hbColumn.familyBytes(), hbColumn.columnBytes(), CompareFilter.CompareOp.EQUAL, expectedValueBytes, rowMutations);
+        }
+        if (persisted && changes != null) {
+            changeTracker.persisted(record, changes);
+        }
+        return persisted;
+    }
+
+    /**
+     * Persist a 'versioned' bean-like object (i.e. one with a field that counts it's revisions) with optimistic concurrency control: the object is persisted only if it's version field in HBase still has the value the object has (i.e. no one else has persisted a revision since the object was read) and the version field is incremented in the same write
+     * <br><br>
+     * For example, with a field <code>@HBColumn(family = "main", column = "revision") private Long revision;</code>, a read-modify-write looks like:
+     * <pre>
+     * Order order = orderDao.get(orderId);
+     * order.setStatus("SHIPPED");
+     * if (!orderDao.persistVersioned(order, "revision")) {
+     *     // someone else updated the order after it was read: read it again and retry (or give up)
+     * }
+     * </pre>
+     * An object whose version field is <code>null</code> is persisted (with version <code>1</code>) only if the row doesn't have that column, i.e. it's a new object.
+     *
+     * @param record           Object that needs to be persisted
+     * @param versionFieldName Name of version field (must be a single-versioned field of type {@link Long} or {@link Integer})
+     * @return <code>true</code> if the object was persisted (in which case it's version field is incremented), <code>false</code> if it's version is stale (in which case the object is left unchanged)
+     * @throws IOException              When HBase call fails
+     * @throws IllegalArgumentException If version field is unrecognized or isn't of a supported type
+     */
+    public boolean persistVersioned(HBRecord<R> record, String versionFieldName) throws IOException {
+        WrappedHBColumn hbColumn = getColumn(versionFieldName);
+        final Class<?> versionType = hbColumn.field().getType();
+        if (!hbColumn.isSingleVersioned() || !(Long.class.equals(versionType) || Integer.class.equals(versionType))) {
+            throw new IllegalArgumentException(String.format("Version field must be a single-versioned field of type Long or Integer (%s.%s isn't)", hbRecordClass.getName(), versionFieldName));
+        }
+        Object version;
+        try {
+            version = hbColumn.accessor().get(record);
+        } catch (IllegalAccessException e) {
+            throw new BadHBaseLibStateException(e);
+        }
+        Object nextVersion = Long.class.equals(versionType) ? (Object) (version == null ? 1L : (Long) version + 1) : (Object) (version == null ? 1 : (Integer) version + 1);
+        setFieldValue(hbColumn, record, nextVersion);
+        boolean persisted = false;
+        try {
+            persisted = persistIf(record, versionFieldName, version);
+        } finally {
+            if (!persisted) {
+                setFieldValue(hbColumn, record, version);
+            }
+        }
+        return persisted;
+    }
+
+    private void setFieldValue(WrappedHBColumn hbColumn, HBRecord<R> record, Object value) {
+        try {
+            hbColumn.accessor().set(record, value);
+        } catch (IllegalAccessException e) {
+            throw new BadHBaseLibStateException(e);
+        }
+    }
+
+    /**
+     * {@link Table#checkAndPut(byte[], byte[], byte[], byte[], Put) checkAndPut} needs a non-empty Put: if dirty field tracking finds nothing changed, the object is written in full
+     */
+    private Put toPut(HBRecord<R> record, ChangeTracker.Changes changes) {
+        return changes != null && !changes.put.isEmpty() ? changes.put : hbObjectMapper.writeValueAsPut(record);
+    }
+
+    private byte[] toExpectedValueBytes(WrappedHBColumn hbColumn, Object expectedValue) {
+        if (!hbColumn.isSingleVersioned()) {
+            throw new IllegalArgumentException(String.format("Values of multi-versioned fields can't be checked (field: '%s')", hbColumn.field().getName()));
+        }
+        if (expectedValue == null) {
+            return null; // HBase checks for absence of column
+        }
+        final Class<?> rawType = TypeToken.of(hbColumn.fieldType()).getRawType();
+        if (!rawType.isInstance(expectedValue)) {
+            throw new IllegalArgumentException(String.format("Expected value of field '%s' must be of type %s (passed value '%s' is of type %s)", hbColumn.field().getName(), rawType.getName(), expectedValue, expectedValue.getClass().getName()));
+        }
+        return hbObjectMapper.valueToByteArray((Serializable) expectedValue, hbColumn.codecFlags());
+    }
+
+
+    /**
+     * Delete a row from an HBase table for a given row key
+     *
+     * @param rowKey row key to delete
+     * @throws IOException When HBase call fails
+     */
+    public void delete(R rowKey) throws IOException {
+        Delete delete = new Delete(toBytes(rowKey));
+        try {
+            this.table.delete(delete);
+        } finally {
+            changeTracker.invalidate(delete.getRow());
+        }
+    }
+
+    /**
+     * Delete HBase row by object (of class that implements {@link HBRecord}
+     *
+     * @param record Object to delete
+     * @throws IOException When HBase call fails
+     */
+    public void delete(HBRecord<R> record) throws IOException {
+        this.delete(record.composeRowKey());
+    }
+
+    /**
+     * Delete HBase rows for an array of row keys
+     *
+     * @param rowKeys row keys to delete
+     * @throws IOException When HBase call fails
+     */
+    public void delete(R[] rowKeys) throws IOException {
+        List<Delete> deletes = new ArrayList<>(rowKeys.length);
+        for (R rowKey : rowKeys) {
+            deletes.add(new Delete(toBytes(rowKey)));
+        }
+        delete(this.table, deletes);
+    }
+
+    /**
+     * Delete HBase rows by object references
+     *
+     * @param records Records to delete
+     * @throws IOException When HBase call fails
+     */
+    public void delete(List<T> records) throws IOException {
+        List<Delete> deletes = new ArrayList<>(records.size());
+        for (HBRecord<R> record : records) {
+            deletes.add(new Delete(toBytes(record.composeRowKey())));
+        }
+        delete(this.table, deletes);
+    }
+
+    /**
+     * Snapshots of deleted rows are invalidated even if the deletes fail, since some of them may have been applied
+     */
+    private void delete(Table table, List<Delete> deletes) throws IOException {
+        try {
+            table.delete(new ArrayList<>(deletes)); // a copy, since HBase removes successful deletes from the list
+        } finally {
+            for (Delete delete : deletes) {
+                changeTracker.invalidate(delete.getRow());
+            }
         }
-        return new WrappedHBColumn(field, true);
     }
 
     /**
-     * Increments field by specified amount
+     * Delete (all versions of) columns mapped to specified fields of a row, leaving other columns of the row untouched
      *
-     * @param rowKey    Row key of the record whose column needs to be incremented
-     * @param fieldName Field that needs to be incremented (this must be of {@link Long} type)
-     * @param amount    Amount by which the HBase column needs to be incremented
-     * @return The new value, post increment
+     * @param rowKey     Row key
+     * @param fieldNames Names of fields to delete
      * @throws IOException When HBase call fails
      */
-    public long increment(R rowKey, String fieldName, long amount) throws IOException {
-        WrappedHBColumn hbColumn = validateAndGetLongColumn(fieldName);
-        return table.incrementColumnValue(toBytes(rowKey), hbColumn.familyBytes(), hbColumn.columnBytes(), amount);
+    public void deleteFields(R rowKey, String... fieldNames) throws IOException {
+        Delete delete = new Delete(toBytes(rowKey));
+        for (WrappedHBColumn hbColumn : getColumns(Arrays.asList(fieldNames))) {
+            delete.addColumns(hbColumn.familyBytes(), hbColumn.columnBytes());
+        }
+        try {
+            table.delete(delete);
+        } finally {
+            changeTracker.invalidate(delete.getRow());
+        }
     }
 
     /**
-     * Increments field by specified amount
+     * Delete versions of column mapped to specified field of a row, up to (and including) the given timestamp (e.g. to prune history of a multi-versioned field), leaving later versions untouched
      *
-     * @param rowKey     Row key of the record whose column needs to be incremented
-     * @param fieldName Field that needs to be incremented (this must be of {@link Long} type)
-     * @param amount     Amount by which the HBase column needs to be incremented
-     * @param durability The persistence guarantee for this increment (see {@link Durability})
-     * @return The new value, post increment
+     * @param rowKey    Row key
+     * @param fieldName Name of field
+     * @param timestamp Timestamp (version) up to which versions are to be deleted
      * @throws IOException When HBase call fails
      */
-    public long increment(R rowKey, String fieldName, long amount, Durability durability) throws IOException {
-        WrappedHBColumn hbColumn = validateAndGetLongColumn(fieldName);
-        return table.incrementColumnValue(toBytes(rowKey), hbColumn.familyBytes(), hbColumn.columnBytes(), amount, durability);
+    public void deleteVersions(R rowKey, String fieldName, long timestamp) throws IOException {
+        WrappedHBColumn hbColumn = getColumn(fieldName);
+        Delete delete = new Delete(toBytes(rowKey)).addColumns(hbColumn.familyBytes(), hbColumn.columnBytes(), timestamp);
+        try {
+            table.delete(delete);
+        } finally {
+            changeTracker.invalidate(delete.getRow());
+        }
     }
 
     /**
-     * Gets (native) {@link Increment} object for given row key, to be later used in {@link #increment(Increment)} method.
+     * Persist a list of your bean-like objects in chunks that are written concurrently (This method is a variant of {@link #persist(List)} method, meant for very large lists of objects)
+     * <br><br>
+     * Objects are split into chunks of (at most) <code>chunkSize</code> objects. Each chunk is converted to {@link Put}s and written by a separate multi-put, with at most <code>parallelism</code> chunks in progress at a time (each using it's own {@link Table}, obtained from the {@link Connection}). Hence, conversion of a chunk overlaps with writes of others and at most <code>chunkSize &times; parallelism</code> {@link Put}s are held in memory at a time.
+     * <br><br>
+     * Failure of a chunk doesn't fail other chunks: failed chunks are returned, for you to retry them (or not).
      *
-     * @param rowKey HBase row key
-     * @return Increment object
+     * @param records     Objects that need to be persisted
+     * @param chunkSize   Maximum number of objects per multi-put
+     * @param parallelism Maximum number of chunks to write concurrently
+     * @return Chunks that failed (empty list if all objects were persisted)
+     * @throws IOException When interrupted while waiting for chunks to complete
      */
-    public Increment getIncrement(R rowKey) {
-        return new Increment(toBytes(rowKey));
+    public List<ChunkFailure<T>> persist(List<T> records, int chunkSize, int parallelism) throws IOException {
+        return mutateInChunks(records, chunkSize, parallelism, "persist", new ChunkWriter<T>() {
+            @Override
+            public void write(Table table, List<T> chunk) throws IOException {
+                persist(table, chunk);
+            }
+        });
     }
 
     /**
-     * Performs HBase {@link Table#increment} on the given {@link Increment} object <br>
-     * <br>
-     * <b>Note</b>: <ul>
-     *     <li>You may construct {@link Increment} object using the {@link #getIncrement(Serializable) getIncrement} method</li>
-     *     <li>Unlike the {@link #increment(Serializable, String, long)} methods, this method skips some validations (hence, be cautious)</li>
-     *     </ul>
+     * Delete HBase rows for an array of row keys, in chunks that are deleted concurrently (This method is a variant of {@link #delete(Serializable[])} method, meant for very large arrays of row keys - see {@link #persist(List, int, int)} for details of chunking)
      *
-     * @param increment HBase Increment object
-     * @return <b>Partial object</b> containing (only) values that were incremented
-     * @throws IOException When HBase call fails
+     * @param rowKeys     Row keys to delete
+     * @param chunkSize   Maximum number of row keys per multi-delete
+     * @param parallelism Maximum number of chunks to delete concurrently
+     * @return Chunks that failed (empty list if all rows were deleted)
+     * @throws IOException When interrupted while waiting for chunks to complete
      */
-    public T increment(Increment increment) throws IOException {
-        Result result = table.increment(increment);
-        return hbObjectMapper.readValue(result, hbRecordClass);
+    public List<ChunkFailure<R>> delete(R[] rowKeys, int chunkSize, int parallelism) throws IOException {
+        return mutateInChunks(Arrays.asList(rowKeys), chunkSize, parallelism, "delete", new ChunkWriter<R>() {
+            @Override
+            public void write(Table table, List<R> chunk) throws IOException {
+                List<Delete> deletes = new ArrayList<>(chunk.size());
+                for (R rowKey : chunk) {
+                    deletes.add(new Delete(toBytes(rowKey)));
+                }
+                delete(table, deletes);
+            }
+        });
     }
 
     /**
-     * Get specified number of versions of rows from HBase table by a range of row keys (start to end)
+     * Delete HBase rows by object references, in chunks that are deleted concurrently (This method is a variant of {@link #delete(List)} method, meant for very large lists of objects - see {@link #persist(List, int, int)} for details of chunking)
      *
-     * @param startRowKey Row start
-     * @param endRowKey   Row end
-     * @return List of rows corresponding to row keys passed, deserialized as objects of your bean-like class
-     * @throws IOException When HBase call fails
+     * @param records     Records to delete
+     * @param chunkSize   Maximum number of records per multi-delete
+     * @param parallelism Maximum number of chunks to delete concurrently
+     * @return Chunks that failed (empty list if all rows were deleted)
+     * @throws IOException When interrupted while waiting for chunks to complete
      */
-    public List<T> get(R startRowKey, R endRowKey) throws IOException {
-        return get(startRowKey, endRowKey, 1);
+    public List<ChunkFailure<T>> delete(List<T> records, int chunkSize, int parallelism) throws IOException {
+        return mutateInChunks(records, chunkSize, parallelism, "delete", new ChunkWriter<T>() {
+            @Override
+            public void write(Table table, List<T> chunk) throws IOException {
+                List<Delete> deletes = new ArrayList<>(chunk.size());
+                for (HBRecord<R> record : chunk) {
+                    deletes.add(new Delete(toBytes(record.composeRowKey())));
+                }
+                delete(table, deletes);
+            }
+        });
     }
 
     /**
-     * Persist your bean-like object (of a class that implements {@link HBRecord}) to HBase table
-     *
-     * @param record Object that needs to be persisted
-     * @return Row key of the persisted object, represented as a {@link String}
-     * @throws IOException When HBase call fails
+     * Writes a chunk of a bulk write to a table
      */
-    public R persist(HBRecord<R> record) throws IOException {
-        Put put = hbObjectMapper.writeValueAsPut(record);
-        table.put(put);
-        return record.composeRowKey();
+    private interface ChunkWriter<E> {
+        void write(Table table, List<E> chunk) throws IOException;
+    }
+
+    private <E> List<ChunkFailure<E>> mutateInChunks(List<E> elements, int chunkSize, int parallelism, String purpose, final ChunkWriter<E> chunkWriter) throws IOException {
+        validateChunking(chunkSize, parallelism);
+        final int numChunks = (elements.size() + chunkSize - 1) / chunkSize;
+        List<ChunkFailure<E>> failures = new ArrayList<>();
+        if (numChunks <= 1 || parallelism == 1) {
+            for (int from = 0, chunkIndex = 0; from < elements.size(); from += chunkSize, chunkIndex++) {
+                List<E> chunk = elements.subList(from, Math.min(from + chunkSize, elements.size()));
+                try {
+                    chunkWriter.write(table, chunk);
+                } catch (IOException | RuntimeException e) {
+                    failures.add(new ChunkFailure<>(chunkIndex, chunk, e));
+                }
+            }
+            return failures;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, numChunks), new DaemonThreadFactory(purpose, hbTable.toString()));
+        try {
+            List<Future<Void>> futures = new ArrayList<>(numChunks);
+            for (int from = 0; from < elements.size(); from += chunkSize) {
+                final List<E> chunk = elements.subList(from, Math.min(from + chunkSize, elements.size()));
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws IOException {
+                        try (Table chunkTable = connection.getTable(hbTable.getName())) {
+                            chunkWriter.write(chunkTable, chunk);
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (int chunkIndex = 0; chunkIndex < numChunks; chunkIndex++) {
+                try {
+                    futures.get(chunkIndex).get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException(String.format("Interrupted while waiting for a %s to complete", purpose));
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Error) {
+                        throw (Error) e.getCause();
+                    }
+                    int from = chunkIndex * chunkSize;
+                    failures.add(new ChunkFailure<>(chunkIndex, elements.subList(from, Math.min(from + chunkSize, elements.size())), e.getCause()));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return failures;
     }
 
     /**
-     * Persist a list of your bean-like objects (of a class that implements {@link HBRecord}) to HBase table (this is a bulk variant of {@link #persist(HBRecord)} method)
+     * Get a writer that buffers writes (persists and deletes) on client-side and sends them to HBase in batches, to achieve high write throughput (e.g. for bulk loads)
+     * <p>
+     * Unlike this DAO, the returned writer is thread-safe. It must be closed after use.
      *
-     * @param records List of objects that needs to be persisted
-     * @return Row keys of the persisted objects, represented as a {@link String}
+     * @param writeBufferSize     Size of write buffer in bytes (<code>0</code> for HBase's default, as per <code>hbase.client.write.buffer</code>)
+     * @param flushIntervalMillis Interval (in milliseconds) at which buffer is flushed even if it isn't full, so that writes don't linger in buffer indefinitely (<code>0</code> to disable periodic flushes)
+     * @param listener            Listener to report writes that failed (<code>null</code> to have failures thrown by the writer's next call instead)
+     * @return Buffered writer for this DAO's table
      * @throws IOException When HBase call fails
+     * @see BufferedMutator
      */
-    public List<R> persist(List<T> records) throws IOException {
-        List<Put> puts = new ArrayList<>(records.size());
-        List<R> rowKeys = new ArrayList<>(records.size());
-        for (HBRecord<R> object : records) {
-            puts.add(hbObjectMapper.writeValueAsPut(object));
-            rowKeys.add(object.composeRowKey());
-        }
-        table.put(puts);
-        return rowKeys;
+    public BufferedRecordWriter<R, T> bufferedWriter(long writeBufferSize, long flushIntervalMillis, WriteFailureListener<R> listener) throws IOException {
+        return new BufferedRecordWriter<>(connection, hbObjectMapper, hbEntity, changeTracker, writeBufferSize, flushIntervalMillis, listener);
     }
 
-
     /**
-     * Delete a row from an HBase table for a given row key
+     * Get a writer that buffers writes on client-side, as per HBase's default buffer size, with no periodic flushes (see {@link #bufferedWriter(long, long, WriteFailureListener)} for details)
      *
-     * @param rowKey row key to delete
+     * @return Buffered writer for this DAO's table
      * @throws IOException When HBase call fails
      */
-    public void delete(R rowKey) throws IOException {
-        Delete delete = new Delete(toBytes(rowKey));
-        this.table.delete(delete);
+    public BufferedRecordWriter<R, T> bufferedWriter() throws IOException {
+        return bufferedWriter(0, 0, null);
     }
 
     /**
-     * Delete HBase row by object (of class that implements {@link HBRecord}
+     * Enable or disable dirty field tracking (disabled by default)
+     * <br><br>
+     * When enabled, this DAO remembers every row it reads (as the serialized values it was read as) against the object it was deserialized to, and {@link #persist(HBRecord) persist} methods write only columns whose values have changed since. This cuts write volume (and hence WAL and compaction load) when few fields of a wide row change, e.g. a status flag.
+     * <br><br>
+     * <b>Note</b>: <ul>
+     * <li>Objects are remembered by identity and as long as they're referenced (i.e. a copy of an object, or an object you construct, is persisted in full)</li>
+     * <li>Rows read as of a range of timestamps (e.g. using {@link TimestampRange}) aren't remembered, since they may not reflect current values</li>
+     * <li>Changes are detected against what this DAO read or wrote: writes to a row through this DAO (including deletes, increments and writes of other objects of the row or through it's buffered writers) make objects of the row be written in full next time, but if a row is modified by other means after it's read, persisting the object may not restore unchanged fields</li>
+     * </ul>
      *
-     * @param record Object to delete
-     * @throws IOException When HBase call fails
+     * @param dirtyFieldTracking Whether to enable dirty field tracking (disabling it forgets all rows remembered so far)
      */
-    public void delete(HBRecord<R> record) throws IOException {
-        this.delete(record.composeRowKey());
+    public void setDirtyFieldTracking(boolean dirtyFieldTracking) {
+        this.dirtyFieldTracking = dirtyFieldTracking;
+        if (!dirtyFieldTracking) {
+            changeTracker.clear();
+        }
     }
 
     /**
-     * Delete HBase rows for an array of row keys
+     * @return Whether dirty field tracking is enabled
+     * @see #setDirtyFieldTracking(boolean)
+     */
+    public boolean isDirtyFieldTracking() {
+        return dirtyFieldTracking;
+    }
+
+    /**
+     * Set options for tuning scans that this DAO creates for range reads (individual calls may override these)
      *
-     * @param rowKeys row keys to delete
-     * @throws IOException When HBase call fails
+     * @param scanOptions Scan options
+     * @see ScanOptions
      */
-    public void delete(R[] rowKeys) throws IOException {
-        List<Delete> deletes = new ArrayList<>(rowKeys.length);
-        for (R rowKey : rowKeys) {
-            deletes.add(new Delete(toBytes(rowKey)));
+    public void setScanOptions(ScanOptions scanOptions) {
+        if (scanOptions == null) {
+            throw new IllegalArgumentException("Scan options can't be null");
         }
-        this.table.delete(deletes);
+        this.scanOptions = scanOptions;
     }
 
     /**
-     * Delete HBase rows by object references
+     * Get options for tuning scans that this DAO creates for range reads
      *
-     * @param records Records to delete
-     * @throws IOException When HBase call fails
+     * @return Scan options
      */
-    public void delete(List<T> records) throws IOException {
-        List<Delete> deletes = new ArrayList<>(records.size());
-        for (HBRecord<R> record : records) {
-            deletes.add(new Delete(toBytes(record.composeRowKey())));
-        }
-        this.table.delete(deletes);
+    public ScanOptions getScanOptions() {
+        return scanOptions;
     }
 
     /**
@@ -480,28 +1720,27 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
         return table;
     }
 
-    private Field getField(String fieldName) {
-        Field field = fields.get(fieldName);
-        if (field == null) {
+    private WrappedHBColumn getColumn(String fieldName) {
+        WrappedHBColumn hbColumn = hbEntity.getColumn(fieldName);
+        if (hbColumn == null) {
             throw new IllegalArgumentException(String.format("Unrecognized field: '%s'. Choose one of %s", fieldName, fields.values().toString()));
         }
-        return field;
+        return hbColumn;
     }
 
-    private void populateFieldValuesToMap(Field field, Result result, Map<R, NavigableMap<Long, Object>> map) {
+    private void populateFieldValuesToMap(WrappedHBColumn hbColumn, Type fieldType, Map<String, String> codecFlags, Result result, Map<R, NavigableMap<Long, Object>> map) {
         if (result.isEmpty()) {
             return;
         }
-        WrappedHBColumn hbColumn = new WrappedHBColumn(field, true);
         List<Cell> cells = result.getColumnCells(hbColumn.familyBytes(), hbColumn.columnBytes());
+        if (cells.isEmpty()) {
+            return;
+        }
+        NavigableMap<Long, Object> versions = new TreeMap<>();
         for (Cell cell : cells) {
-            Type fieldType = hbObjectMapper.getFieldType(field, hbColumn.isMultiVersioned());
-            @SuppressWarnings("unchecked") final R rowKey = hbObjectMapper.bytesToRowKey(CellUtil.cloneRow(cell), hbTable.getCodecFlags(), (Class<T>) field.getDeclaringClass());
-            if (!map.containsKey(rowKey)) {
-                map.put(rowKey, new TreeMap<Long, Object>());
-            }
-            map.get(rowKey).put(cell.getTimestamp(), hbObjectMapper.byteArrayToValue(CellUtil.cloneValue(cell), fieldType, hbColumn.codecFlags()));
+            versions.put(cell.getTimestamp(), hbObjectMapper.byteArrayToValue(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength(), fieldType, codecFlags));
         }
+        map.put(rowKeyOf(result), versions);
     }
 
     /**
@@ -529,10 +1768,39 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      * @throws IOException When HBase call fails
      */
     public NavigableMap<Long, Object> fetchFieldValue(R rowKey, String fieldName, int numVersionsToFetch) throws IOException {
+        return fetchFieldValue(rowKey, fieldName, numVersionsToFetch, null);
+    }
+
+    /**
+     * Fetch multiple versions of column values by row key and field name, restricted to a range of timestamps - this is a variant of {@link #fetchFieldValue(Serializable, String, int)}
+     *
+     * @param rowKey             Row key to reference HBase row
+     * @param fieldName          Name of the private variable of your bean-like object (of a class that implements {@link HBRecord}) whose corresponding column needs to be fetched
+     * @param numVersionsToFetch Number of versions of column to fetch (latest ones within the timestamp range)
+     * @param timestampRange     Range of timestamps to read versions from
+     * @return {@link NavigableMap} of timestamps and values of the column (boxed), <code>null</code> if row with given rowKey doesn't exist or such field doesn't have a version within the range
+     * @throws IOException When HBase call fails
+     * @see TimestampRange
+     */
+    public NavigableMap<Long, Object> fetchFieldValue(R rowKey, String fieldName, int numVersionsToFetch, TimestampRange timestampRange) throws IOException {
         @SuppressWarnings("unchecked") R[] array = (R[]) Array.newInstance(rowKeyClass, 1);
         array[0] = rowKey;
-        return fetchFieldValues(array, fieldName, numVersionsToFetch).get(rowKey);
+        return fetchFieldValues(array, fieldName, numVersionsToFetch, timestampRange).get(rowKey);
+    }
 
+    /**
+     * Fetch value of column for a given row key and field, as of a given time, i.e. the latest version within a range of timestamps (this is a variant of {@link #fetchFieldValue(Serializable, String)})
+     *
+     * @param rowKey         Row key to reference HBase row
+     * @param fieldName      Name of the private variable of your bean-like object (of a class that implements {@link HBRecord}) whose corresponding column needs to be fetched
+     * @param timestampRange Range of timestamps (e.g. {@link TimestampRange#asOf(long)})
+     * @return Value of the column (boxed), <code>null</code> if row with given rowKey doesn't exist or such field doesn't have a version within the range
+     * @throws IOException When HBase call fails
+     */
+    public Object fetchFieldValue(R rowKey, String fieldName, TimestampRange timestampRange) throws IOException {
+        final NavigableMap<Long, Object> fieldValues = fetchFieldValue(rowKey, fieldName, 1, timestampRange);
+        if (fieldValues == null || fieldValues.isEmpty()) return null;
+        else return fieldValues.lastEntry().getValue();
     }
 
     /**
@@ -568,19 +1836,115 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      * @throws IOException When HBase call fails
      */
     public NavigableMap<R, NavigableMap<Long, Object>> fetchFieldValues(R startRowKey, R endRowKey, String fieldName, int numVersionsToFetch) throws IOException {
-        Field field = getField(fieldName);
-        WrappedHBColumn hbColumn = new WrappedHBColumn(field, true);
-        Scan scan = new Scan(toBytes(startRowKey), toBytes(endRowKey));
-        scan.addColumn(hbColumn.familyBytes(), hbColumn.columnBytes());
-        scan.setMaxVersions(numVersionsToFetch);
-        ResultScanner scanner = table.getScanner(scan);
+        return fetchFieldValues(startRowKey, endRowKey, fieldName, numVersionsToFetch, (ScanOptions) null);
+    }
+
+    /**
+     * Fetch specified number of versions of values of an HBase column for a range of row keys (start and end) and field name, with scan tuned as per given options - this is a variant of {@link #fetchFieldValues(Serializable, Serializable, String, int)}
+     *
+     * @param startRowKey        Start row key (scan start)
+     * @param endRowKey          End row key (scan end)
+     * @param fieldName          Name of the private variable of your bean-like object (of a class that implements {@link HBRecord}) whose corresponding column needs to be fetched
+     * @param numVersionsToFetch Number of versions of column to fetch
+     * @param scanOptions        Scan options (these override options set for this DAO)
+     * @return Map of row key and column values (versioned)
+     * @throws IOException When HBase call fails
+     * @see ScanOptions
+     */
+    public NavigableMap<R, NavigableMap<Long, Object>> fetchFieldValues(R startRowKey, R endRowKey, String fieldName, int numVersionsToFetch, ScanOptions scanOptions) throws IOException {
+        return toVersionedMap(fieldValues(startRowKey, endRowKey, fieldName, numVersionsToFetch, scanOptions, null));
+    }
+
+    /**
+     * Fetch specified number of versions of values of an HBase column for a range of row keys (start and end) and field name, restricted to a range of timestamps - this is a variant of {@link #fetchFieldValues(Serializable, Serializable, String, int)}
+     * <br><br>
+     * Unlike fetching all versions and filtering them in your code, versions outside the range aren't transferred from HBase.
+     *
+     * @param startRowKey        Start row key (scan start)
+     * @param endRowKey          End row key (scan end)
+     * @param fieldName          Name of the private variable of your bean-like object (of a class that implements {@link HBRecord}) whose corresponding column needs to be fetched
+     * @param numVersionsToFetch Number of versions of column to fetch (latest ones within the timestamp range)
+     * @param timestampRange     Range of timestamps to read versions from
+     * @return Map of row key and column values (versioned)
+     * @throws IOException When HBase call fails
+     * @see TimestampRange
+     */
+    public NavigableMap<R, NavigableMap<Long, Object>> fetchFieldValues(R startRowKey, R endRowKey, String fieldName, int numVersionsToFetch, TimestampRange timestampRange) throws IOException {
+        return toVersionedMap(fieldValues(startRowKey, endRowKey, fieldName, numVersionsToFetch, null, timestampRange));
+    }
+
+    private NavigableMap<R, NavigableMap<Long, Object>> toVersionedMap(FieldValues<R> fieldValuesInRange) {
         NavigableMap<R, NavigableMap<Long, Object>> map = new TreeMap<>();
-        for (Result result : scanner) {
-            populateFieldValuesToMap(field, result, map);
+        try (FieldValues<R> fieldValues = fieldValuesInRange) {
+            R rowKey = null;
+            NavigableMap<Long, Object> versions = null;
+            for (FieldValue<R> fieldValue : fieldValues) {
+                if (versions == null || !fieldValue.getRowKey().equals(rowKey)) {
+                    rowKey = fieldValue.getRowKey();
+                    versions = new TreeMap<>();
+                    map.put(rowKey, versions);
+                }
+                versions.put(fieldValue.getTimestamp(), fieldValue.getValue());
+            }
         }
         return map;
     }
 
+    /**
+     * Stream values of an HBase column for a range of row keys (start and end) and field name, one version at a time, without collecting them in memory (streaming variant of {@link #fetchFieldValues(Serializable, Serializable, String, int)})
+     * <br><br>
+     * <b>Please note:</b> The returned object holds an HBase scanner, so always use it in a <code>try</code>-with-resources block.
+     *
+     * @param startRowKey        Start row key (scan start)
+     * @param endRowKey          End row key (scan end)
+     * @param fieldName          Name of the private variable of your bean-like object (of a class that implements {@link HBRecord}) whose corresponding column needs to be fetched
+     * @param numVersionsToFetch Number of versions of column to fetch
+     * @return Values of the column, with their row keys and timestamps (must be closed after use)
+     * @throws IOException When HBase call fails
+     * @see FieldValues
+     */
+    public FieldValues<R> fieldValues(R startRowKey, R endRowKey, String fieldName, int numVersionsToFetch) throws IOException {
+        return fieldValues(startRowKey, endRowKey, fieldName, numVersionsToFetch, null, null);
+    }
+
+    /**
+     * Stream values of an HBase column for a range of row keys (start and end) and field name, with scan tuned as per given options - this is a variant of {@link #fieldValues(Serializable, Serializable, String, int)}
+     *
+     * @param startRowKey        Start row key (scan start)
+     * @param endRowKey          End row key (scan end)
+     * @param fieldName          Name of the private variable of your bean-like object (of a class that implements {@link HBRecord}) whose corresponding column needs to be fetched
+     * @param numVersionsToFetch Number of versions of column to fetch
+     * @param scanOptions        Scan options (these override options set for this DAO)
+     * @return Values of the column, with their row keys and timestamps (must be closed after use)
+     * @throws IOException When HBase call fails
+     * @see ScanOptions
+     */
+    public FieldValues<R> fieldValues(R startRowKey, R endRowKey, String fieldName, int numVersionsToFetch, ScanOptions scanOptions) throws IOException {
+        return fieldValues(startRowKey, endRowKey, fieldName, numVersionsToFetch, scanOptions, null);
+    }
+
+    /**
+     * Stream values of an HBase column for a range of row keys (start and end) and field name, restricted to a range of timestamps - this is a variant of {@link #fieldValues(Serializable, Serializable, String, int)}
+     *
+     * @param startRowKey        Start row key (scan start)
+     * @param endRowKey          End row key (scan end)
+     * @param fieldName          Name of the private variable of your bean-like object (of a class that implements {@link HBRecord}) whose corresponding column needs to be fetched
+     * @param numVersionsToFetch Number of versions of column to fetch (latest ones within the timestamp range)
+     * @param timestampRange     Range of timestamps to read versions from
+     * @return Values of the column, with their row keys and timestamps (must be closed after use)
+     * @throws IOException When HBase call fails
+     * @see TimestampRange
+     */
+    public FieldValues<R> fieldValues(R startRowKey, R endRowKey, String fieldName, int numVersionsToFetch, TimestampRange timestampRange) throws IOException {
+        return fieldValues(startRowKey, endRowKey, fieldName, numVersionsToFetch, null, timestampRange);
+    }
+
+    private FieldValues<R> fieldValues(R startRowKey, R endRowKey, String fieldName, int numVersionsToFetch, ScanOptions scanOptions, TimestampRange timestampRange) throws IOException {
+        WrappedHBColumn hbColumn = getColumn(fieldName);
+        Scan scan = newScan(startRowKey, endRowKey, numVersionsToFetch, Collections.singletonList(hbColumn), scanOptions, timestampRange);
+        return new FieldValues<>(table.getScanner(scan), hbObjectMapper, hbEntity, hbColumn);
+    }
+
     /**
      * Fetch column values for a given array of row keys (bulk variant of method {@link #fetchFieldValue(Serializable, String)})
      *
@@ -604,23 +1968,166 @@ public abstract class AbstractHBDAO<R extends Serializable & Comparable<R>, T ex
      * @throws IOException When HBase call fails
      */
     public Map<R, NavigableMap<Long, Object>> fetchFieldValues(R[] rowKeys, String fieldName, int numVersionsToFetch) throws IOException {
-        Field field = getField(fieldName);
-        WrappedHBColumn hbColumn = new WrappedHBColumn(field, true);
+        return fetchFieldValues(rowKeys, fieldName, numVersionsToFetch, (TimestampRange) null);
+    }
+
+    /**
+     * Fetch specified number of versions of values of an HBase column for an array of row keys, restricted to a range of timestamps - this is a variant of {@link #fetchFieldValues(Serializable[], String, int)}
+     *
+     * @param rowKeys            Array of row keys to fetch
+     * @param fieldName          Name of the private variable of your bean-like object (of a class that implements {@link HBRecord}) whose corresponding column needs to be fetched
+     * @param numVersionsToFetch Number of versions of column to fetch (latest ones within the timestamp range)
+     * @param timestampRange     Range of timestamps to read versions from
+     * @return Map of row key and column values (versioned)
+     * @throws IOException When HBase call fails
+     * @see TimestampRange
+     */
+    public Map<R, NavigableMap<Long, Object>> fetchFieldValues(R[] rowKeys, String fieldName, int numVersionsToFetch, TimestampRange timestampRange) throws IOException {
+        WrappedHBColumn hbColumn = getColumn(fieldName);
+        List<WrappedHBColumn> projection = Collections.singletonList(hbColumn);
         List<Get> gets = new ArrayList<>(rowKeys.length);
         for (R rowKey : rowKeys) {
-            Get get = new Get(toBytes(rowKey));
-            get.setMaxVersions(numVersionsToFetch);
-            get.addColumn(hbColumn.familyBytes(), hbColumn.columnBytes());
-            gets.add(get);
+            gets.add(newGet(rowKey, numVersionsToFetch, projection, timestampRange));
         }
         Result[] results = this.table.get(gets);
         Map<R, NavigableMap<Long, Object>> map = new HashMap<>(rowKeys.length, 1.0f);
+        final Type fieldType = hbColumn.fieldType();
+        final Map<String, String> codecFlags = hbColumn.codecFlags();
         for (Result result : results) {
-            populateFieldValuesToMap(field, result, map);
+            populateFieldValuesToMap(hbColumn, fieldType, codecFlags, result, map);
+        }
+        return map;
+    }
+
+    /**
+     * Fetch values of multiple HBase columns for a given array of row keys, in one round trip (multi-field variant of method {@link #fetchFieldValues(Serializable[], String)})
+     * <br><br>
+     * Only the specified columns are read from HBase and only their values are deserialized. This is cheaper than fetching one field at a time (one round trip per field) or fetching entire records (when only a few fields are needed).
+     *
+     * @param rowKeys    Array of row keys to fetch
+     * @param fieldNames Names of the private variables of your bean-like object (of a class that implements {@link HBRecord}) whose corresponding columns need to be fetched
+     * @return Map of row key and values of columns (keyed by field name). Rows that don't exist (or have none of the fields) aren't in this map, and fields that a row doesn't have aren't in it's map.
+     * @throws IOException When HBase call fails
+     */
+    public Map<R, Map<String, Object>> fetchFieldValues(R[] rowKeys, Collection<String> fieldNames) throws IOException {
+        List<WrappedHBColumn> hbColumns = getColumns(fieldNames);
+        Map<R, Map<String, Object>> map = new HashMap<>(rowKeys.length, 1.0f);
+        for (Result result : getFieldValues(rowKeys, 1, hbColumns)) {
+            populateLatestFieldValuesToMap(hbColumns, result, map);
+        }
+        return map;
+    }
+
+    /**
+     * Fetch specified number of versions of values of multiple HBase columns for a given array of row keys, in one round trip (multi-field variant of method {@link #fetchFieldValues(Serializable[], String, int)})
+     *
+     * @param rowKeys            Array of row keys to fetch
+     * @param fieldNames         Names of the private variables of your bean-like object (of a class that implements {@link HBRecord}) whose corresponding columns need to be fetched
+     * @param numVersionsToFetch Number of versions of columns to fetch
+     * @return Map of row key and values of columns (keyed by field name, versioned)
+     * @throws IOException When HBase call fails
+     */
+    public Map<R, Map<String, NavigableMap<Long, Object>>> fetchFieldValues(R[] rowKeys, Collection<String> fieldNames, int numVersionsToFetch) throws IOException {
+        List<WrappedHBColumn> hbColumns = getColumns(fieldNames);
+        Map<R, Map<String, NavigableMap<Long, Object>>> map = new HashMap<>(rowKeys.length, 1.0f);
+        for (Result result : getFieldValues(rowKeys, numVersionsToFetch, hbColumns)) {
+            populateFieldValuesToMap(hbColumns, result, map);
+        }
+        return map;
+    }
+
+    /**
+     * Fetch values of multiple HBase columns for a range of row keys (start and end), in one scan (multi-field variant of method {@link #fetchFieldValues(Serializable, Serializable, String)})
+     *
+     * @param startRowKey Start row key (scan start)
+     * @param endRowKey   End row key (scan end)
+     * @param fieldNames  Names of the private variables of your bean-like object (of a class that implements {@link HBRecord}) whose corresponding columns need to be fetched
+     * @return Map of row key and values of columns (keyed by field name). Rows that have none of the fields aren't in this map.
+     * @throws IOException When HBase call fails
+     */
+    public NavigableMap<R, Map<String, Object>> fetchFieldValues(R startRowKey, R endRowKey, Collection<String> fieldNames) throws IOException {
+        List<WrappedHBColumn> hbColumns = getColumns(fieldNames);
+        NavigableMap<R, Map<String, Object>> map = new TreeMap<>();
+        try (ResultScanner scanner = table.getScanner(newScan(startRowKey, endRowKey, 1, hbColumns, null))) {
+            Iterator<Result> results = new RowStitchingIterator(scanner.iterator()); // a row may come in parts, if scan options specify a batch size
+            while (results.hasNext()) {
+                populateLatestFieldValuesToMap(hbColumns, results.next(), map);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Fetch specified number of versions of values of multiple HBase columns for a range of row keys (start and end), in one scan (multi-field variant of method {@link #fetchFieldValues(Serializable, Serializable, String, int)})
+     *
+     * @param startRowKey        Start row key (scan start)
+     * @param endRowKey          End row key (scan end)
+     * @param fieldNames         Names of the private variables of your bean-like object (of a class that implements {@link HBRecord}) whose corresponding columns need to be fetched
+     * @param numVersionsToFetch Number of versions of columns to fetch
+     * @return Map of row key and values of columns (keyed by field name, versioned)
+     * @throws IOException When HBase call fails
+     */
+    public NavigableMap<R, Map<String, NavigableMap<Long, Object>>> fetchFieldValues(R startRowKey, R endRowKey, Collection<String> fieldNames, int numVersionsToFetch) throws IOException {
+        List<WrappedHBColumn> hbColumns = getColumns(fieldNames);
+        NavigableMap<R, Map<String, NavigableMap<Long, Object>>> map = new TreeMap<>();
+        try (ResultScanner scanner = table.getScanner(newScan(startRowKey, endRowKey, numVersionsToFetch, hbColumns, null))) {
+            Iterator<Result> results = new RowStitchingIterator(scanner.iterator()); // a row may come in parts, if scan options specify a batch size
+            while (results.hasNext()) {
+                populateFieldValuesToMap(hbColumns, results.next(), map);
+            }
         }
         return map;
     }
 
+    private Result[] getFieldValues(R[] rowKeys, int numVersionsToFetch, List<WrappedHBColumn> hbColumns) throws IOException {
+        List<Get> gets = new ArrayList<>(rowKeys.length);
+        for (R rowKey : rowKeys) {
+            gets.add(newGet(rowKey, numVersionsToFetch, hbColumns));
+        }
+        return table.get(gets);
+    }
+
+    /**
+     * Row key is deserialized once per row (rather than once per cell)
+     */
+    private R rowKeyOf(Result result) {
+        Cell cell = result.rawCells()[0];
+        return hbObjectMapper.bytesToRowKey(cell.getRowArray(), cell.getRowOffset(), cell.getRowLength(), hbEntity);
+    }
+
+    private void populateLatestFieldValuesToMap(List<WrappedHBColumn> hbColumns, Result result, Map<R, Map<String, Object>> map) {
+        if (result.isEmpty()) {
+            return;
+        }
+        Map<String, Object> fieldValues = new HashMap<>(hbColumns.size(), 1.0f);
+        for (WrappedHBColumn hbColumn : hbColumns) {
+            Cell cell = result.getColumnLatestCell(hbColumn.familyBytes(), hbColumn.columnBytes());
+            if (cell != null) {
+                fieldValues.put(hbColumn.field().getName(), hbObjectMapper.byteArrayToValue(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength(), hbColumn.fieldType(), hbColumn.codecFlags()));
+            }
+        }
+        map.put(rowKeyOf(result), fieldValues);
+    }
+
+    private void populateFieldValuesToMap(List<WrappedHBColumn> hbColumns, Result result, Map<R, Map<String, NavigableMap<Long, Object>>> map) {
+        if (result.isEmpty()) {
+            return;
+        }
+        Map<String, NavigableMap<Long, Object>> fieldValues = new HashMap<>(hbColumns.size(), 1.0f);
+        for (WrappedHBColumn hbColumn : hbColumns) {
+            List<Cell> cells = result.getColumnCells(hbColumn.familyBytes(), hbColumn.columnBytes());
+            if (cells.isEmpty()) {
+                continue;
+            }
+            NavigableMap<Long, Object> versions = new TreeMap<>();
+            for (Cell cell : cells) {
+                versions.put(cell.getTimestamp(), hbObjectMapper.byteArrayToValue(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength(), hbColumn.fieldType(), hbColumn.codecFlags()));
+            }
+            fieldValues.put(hbColumn.field().getName(), versions);
+        }
+        map.put(rowKeyOf(result), fieldValues);
+    }
+
     private byte[] toBytes(R rowKey) {
         return hbObjectMapper.rowKeyToBytes(rowKey, hbTable.getCodecFlags());
     }
@@ -0,0 +1,236 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.client.*;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Writes records to an HBase table through a client-side write buffer (HBase's {@link BufferedMutator}), rather than making an RPC per record like {@link AbstractHBDAO#persist(HBRecord)} does
+ * <p>
+ * Writes are sent to HBase when buffer fills up, when {@link #flush()} or {@link #close()} is called and (if configured) periodically on a background thread. Hence, a write that returns successfully may yet fail: such failures are reported to a {@link WriteFailureListener} if one is configured, or else are thrown by a later call to this writer.
+ * <p>
+ * Get one from {@link AbstractHBDAO#bufferedWriter(long, long, WriteFailureListener)} and always close it after use (writes still in buffer are lost otherwise):
+ * <pre>
+ * try (BufferedRecordWriter&lt;String, Citizen&gt; writer = citizenDao.bufferedWriter(4 * 1024 * 1024, 1000, listener)) {
+ *     for (Citizen citizen : citizens) {
+ *         writer.persist(citizen);
+ *     }
+ * }
+ * </pre>
+ * Objects of this class are thread-safe.
+ *
+ * @param <R> Data type of row key
+ * @param <T> Entity type
+ */
+public class BufferedRecordWriter<R extends Serializable & Comparable<R>, T extends HBRecord<R>> implements Closeable {
+
+    private final BufferedMutator mutator;
+    private final HBObjectMapper hbObjectMapper;
+    private final WrappedHBEntity<R, T> hbEntity;
+    private final ChangeTracker<R, T> changeTracker;
+    private final ScheduledExecutorService flusher;
+    private final AtomicReference<IOException> periodicFlushFailure = new AtomicReference<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * @param changeTracker       Change tracker of DAO, whose snapshots of rows written (or deleted) by this writer are to be invalidated
+     * @param writeBufferSize     Size of write buffer in bytes (<code>0</code> for HBase's default, as per <code>hbase.client.write.buffer</code>)
+     * @param flushIntervalMillis Interval of periodic flushes in milliseconds (<code>0</code> to disable periodic flushes)
+     * @param listener            Listener for failed writes (<code>null</code> to have failures thrown by a later call instead)
+     */
+    BufferedRecordWriter(Connection connection, HBObjectMapper hbObjectMapper, final WrappedHBEntity<R, T> hbEntity, ChangeTracker<R, T> changeTracker, long writeBufferSize, long flushIntervalMillis, WriteFailureListener<R> listener) throws IOException {
+        if (writeBufferSize < 0) {
+            throw new IllegalArgumentException(String.format("Write buffer size can't be negative (passed value: %d)", writeBufferSize));
+        }
+        if (flushIntervalMillis < 0) {
+            throw new IllegalArgumentException(String.format("Flush interval can't be negative (passed value: %d)", flushIntervalMillis));
+        }
+        this.hbObjectMapper = hbObjectMapper;
+        this.hbEntity = hbEntity;
+        this.changeTracker = changeTracker;
+        BufferedMutatorParams params = new BufferedMutatorParams(hbEntity.getHBTable().getName());
+        if (writeBufferSize > 0) {
+            params.writeBufferSize(writeBufferSize);
+        }
+        if (listener != null) {
+            params.listener(exceptionListener(listener));
+        }
+        this.mutator = connection.getBufferedMutator(params);
+        if (flushIntervalMillis > 0) {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("flush", hbEntity.getHBTable().toString()));
+            this.flusher.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        mutator.flush();
+                    } catch (IOException e) {
+                        periodicFlushFailure.compareAndSet(null, e);
+                    }
+                }
+            }, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    /**
+     * Translates failed mutations (as reported by HBase) to row keys
+     */
+    private BufferedMutator.ExceptionListener exceptionListener(final WriteFailureListener<R> listener) {
+        return new BufferedMutator.ExceptionListener() {
+            @Override
+            public void onException(RetriesExhaustedWithDetailsException exception, BufferedMutator mutator) {
+                for (int i = 0; i < exception.getNumExceptions(); i++) {
+                    byte[] rowKeyBytes = exception.getRow(i).getRow();
+                    listener.onFailure(hbObjectMapper.bytesToRowKey(rowKeyBytes, hbEntity), exception.getCause(i), exception.getHostnamePort(i));
+                }
+            }
+        };
+    }
+
+    /**
+     * Buffer an object of your bean-like class to be persisted
+     *
+     * @param record Object that needs to be persisted
+     * @return Row key of the object
+     * @throws IOException When buffer had to be flushed and that failed (or an earlier periodic flush had failed)
+     */
+    public R persist(HBRecord<R> record) throws IOException {
+        checkState();
+        Put put = hbObjectMapper.writeValueAsPut(record);
+        changeTracker.invalidate(put.getRow());
+        mutator.mutate(put);
+        return record.composeRowKey();
+    }
+
+    /**
+     * Buffer a list of objects of your bean-like class to be persisted (this is a bulk variant of {@link #persist(HBRecord)})
+     *
+     * @param records Objects that need to be persisted
+     * @return Row keys of the objects
+     * @throws IOException When buffer had to be flushed and that failed (or an earlier periodic flush had failed)
+     */
+    public List<R> persist(List<T> records) throws IOException {
+        checkState();
+        List<Put> puts = new ArrayList<>(records.size());
+        List<R> rowKeys = new ArrayList<>(records.size());
+        for (HBRecord<R> record : records) {
+            Put put = hbObjectMapper.writeValueAsPut(record);
+            changeTracker.invalidate(put.getRow());
+            puts.add(put);
+            rowKeys.add(record.composeRowKey());
+        }
+        mutator.mutate(puts);
+        return rowKeys;
+    }
+
+    /**
+     * Buffer deletion of a row
+     *
+     * @param rowKey Row key of row to delete
+     * @throws IOException When buffer had to be flushed and that failed (or an earlier periodic flush had failed)
+     */
+    public void delete(R rowKey) throws IOException {
+        checkState();
+        Delete delete = new Delete(hbObjectMapper.rowKeyToBytes(rowKey, hbEntity.getHBTable().getCodecFlags()));
+        changeTracker.invalidate(delete.getRow());
+        mutator.mutate(delete);
+    }
+
+    /**
+     * Buffer deletion of a row by object reference
+     *
+     * @param record Object whose row needs to be deleted
+     * @throws IOException When buffer had to be flushed and that failed (or an earlier periodic flush had failed)
+     */
+    public void delete(HBRecord<R> record) throws IOException {
+        delete(record.composeRowKey());
+    }
+
+    /**
+     * Send all buffered writes to HBase and wait for them to complete
+     *
+     * @throws IOException When writes fail (and no {@link WriteFailureListener} is configured) or an earlier periodic flush had failed
+     */
+    public void flush() throws IOException {
+        checkState();
+        mutator.flush();
+    }
+
+    /**
+     * @return Size of write buffer in bytes
+     */
+    public long getWriteBufferSize() {
+        return mutator.getWriteBufferSize();
+    }
+
+    private void checkState() throws IOException {
+        if (closed.get()) {
+            throw new IllegalStateException("Writer is closed");
+        }
+        IOException failure = periodicFlushFailure.getAndSet(null);
+        if (failure != null) {
+            throw new IOException("A periodic flush of buffered writes failed", failure);
+        }
+    }
+
+    /**
+     * Stop periodic flushes, send all buffered writes to HBase and release resources. This method is idempotent.
+     *
+     * @throws IOException When writes fail (and no {@link WriteFailureListener} is configured) or an earlier periodic flush had failed
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        InterruptedException interruption = null;
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS); // let an ongoing periodic flush complete
+            } catch (InterruptedException e) {
+                interruption = e; // buffered writes must still be sent and mutator released, hence not bailing out here
+            }
+        }
+        Exception failure = null;
+        try {
+            mutator.close();
+        } catch (IOException | RuntimeException e) {
+            failure = e; // e.g. writes that failed (when no listener is configured), hence reported over other failures
+        }
+        if (interruption != null) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException e = new InterruptedIOException("Interrupted while waiting for periodic flush to complete");
+            e.initCause(interruption);
+            failure = withSuppressed(failure, e);
+        }
+        IOException periodicFailure = periodicFlushFailure.getAndSet(null);
+        if (periodicFailure != null) {
+            failure = withSuppressed(failure, new IOException("A periodic flush of buffered writes failed", periodicFailure));
+        }
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        } else if (failure != null) {
+            throw (RuntimeException) failure;
+        }
+    }
+
+    private static Exception withSuppressed(Exception failure, Exception otherFailure) {
+        if (failure == null) {
+            return otherFailure;
+        }
+        failure.addSuppressed(otherFailure);
+        return failure;
+    }
+}
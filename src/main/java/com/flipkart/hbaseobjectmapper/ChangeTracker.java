@@ -0,0 +1,156 @@
+package com.flipkart.hbaseobjectmapper;
+
+import com.google.common.collect.MapMaker;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.io.ImmutableBytesWritable;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Remembers rows as they were read, so that only columns whose values have changed since are written when records are persisted back (for internal use only)
+ * <p>
+ * A snapshot is the {@link Result} a record was deserialized from (so taking it costs nothing at read time) and is held against the record object itself (by identity, weakly), i.e. it goes away when the record is garbage collected. Changes are detected by comparing serialized values, cell by cell: values of single-versioned fields are compared with latest versions in the snapshot and values of multi-versioned fields are compared with versions of same timestamps.
+ * <p>
+ * Snapshots are also indexed by row key, so that all snapshots of a row can be invalidated when the row is written to (or deleted) other than by persisting the record a snapshot belongs to. The index holds it's entries weakly, i.e. an entry goes away when all records of it's row are garbage collected.
+ * <p>
+ * Objects of this class are thread-safe.
+ *
+ * @param <R> Data type of row key
+ * @param <T> Entity type
+ */
+class ChangeTracker<R extends Serializable & Comparable<R>, T extends HBRecord<R>> {
+
+    private final HBObjectMapper hbObjectMapper;
+    private final WrappedHBEntity<R, T> hbEntity;
+    private final ConcurrentMap<HBRecord<R>, Snapshot> snapshots = new MapMaker().weakKeys().makeMap(); // weak keys are compared by identity
+    private final ConcurrentMap<ImmutableBytesWritable, Row> rows = new MapMaker().weakValues().makeMap(); // a row is strongly reachable only through snapshots of it
+
+    ChangeTracker(HBObjectMapper hbObjectMapper, WrappedHBEntity<R, T> hbEntity) {
+        this.hbObjectMapper = hbObjectMapper;
+        this.hbEntity = hbEntity;
+    }
+
+    /**
+     * State shared by all snapshots of a row
+     */
+    private static class Row {
+        private volatile boolean invalidated;
+    }
+
+    private static class Snapshot {
+        private final Result result;
+        private final Row row;
+
+        private Snapshot(Result result, Row row) {
+            this.result = result;
+            this.row = row;
+        }
+    }
+
+    /**
+     * A {@link Put} with changed columns of a record and the snapshot to remember once it's written
+     */
+    static class Changes {
+        final Put put;
+        private final Result snapshot;
+
+        private Changes(Put put, Result snapshot) {
+            this.put = put;
+            this.snapshot = snapshot;
+        }
+    }
+
+    /**
+     * Remember a record as it was read
+     *
+     * @param record Record deserialized from the result (may be <code>null</code>, in which case nothing is remembered)
+     * @param result Row as read from HBase
+     */
+    void track(HBRecord<R> record, Result result) {
+        if (record != null && !result.isEmpty()) {
+            snapshots.put(record, new Snapshot(result, row(result.getRow())));
+        }
+    }
+
+    /**
+     * Invalidate snapshots of a row, because the row was written to (or deleted) by other means: records of that row are written in full when persisted next
+     *
+     * @param row Row key (serialized)
+     */
+    void invalidate(byte[] row) {
+        Row removedRow = rows.remove(new ImmutableBytesWritable(row));
+        if (removedRow != null) {
+            removedRow.invalidated = true;
+        }
+    }
+
+    void clear() {
+        for (Row row : rows.values()) {
+            row.invalidated = true;
+        }
+        rows.clear();
+        snapshots.clear();
+    }
+
+    private Row row(byte[] row) {
+        ImmutableBytesWritable key = new ImmutableBytesWritable(row);
+        Row newRow = new Row();
+        Row existingRow = rows.putIfAbsent(key, newRow);
+        return existingRow == null ? newRow : existingRow;
+    }
+
+    /**
+     * Compute changes in a record since it was read (or last persisted). All columns are changes for a record that wasn't tracked, whose row key has changed since or whose row was invalidated since.
+     *
+     * @return Changes (the {@link Put} is empty if nothing has changed)
+     */
+    Changes changes(HBRecord<R> record) {
+        final byte[] row = hbObjectMapper.composeRowKey(record, hbEntity);
+        Snapshot snapshot = snapshots.get(record);
+        final Result previousSnapshot = snapshot == null || snapshot.row.invalidated || !Bytes.equals(row, snapshot.result.getRow()) ? null : snapshot.result;
+        final Put put = new Put(row);
+        final List<Cell> cells = new ArrayList<>(hbEntity.getColumns().size());
+        hbObjectMapper.convertRecordToCells(record, hbEntity, new HBObjectMapper.CellSink() {
+            @Override
+            public void add(byte[] family, byte[] column, long timestamp, byte[] value) {
+                cells.add(CellUtil.createCell(row, family, column, timestamp, KeyValue.Type.Put.getCode(), value));
+                if (previousSnapshot == null || !contains(previousSnapshot, family, column, timestamp, value)) {
+                    put.addColumn(family, column, timestamp, value);
+                }
+            }
+        });
+        return new Changes(put, Result.create(cells));
+    }
+
+    /**
+     * Remember a record as it was written (if anything was written, snapshots of other records of the row no longer reflect the row, hence are invalidated)
+     */
+    void persisted(HBRecord<R> record, Changes changes) {
+        if (!changes.put.isEmpty()) {
+            invalidate(changes.put.getRow());
+        }
+        track(record, changes.snapshot);
+    }
+
+    private static boolean contains(Result snapshot, byte[] family, byte[] column, long timestamp, byte[] value) {
+        if (timestamp == HConstants.LATEST_TIMESTAMP) { // single-versioned field
+            Cell cell = snapshot.getColumnLatestCell(family, column);
+            return cell != null && CellUtil.matchingValue(cell, value);
+        }
+        for (Cell cell : snapshot.getColumnCells(family, column)) {
+            if (cell.getTimestamp() == timestamp) {
+                return CellUtil.matchingValue(cell, value);
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,50 @@
+package com.flipkart.hbaseobjectmapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A chunk of a chunked bulk write (persist or delete) that failed, e.g. as returned by {@link AbstractHBDAO#persist(List, int, int)}
+ * <p>
+ * Other chunks of the same bulk write are unaffected. Since HBase writes of a chunk aren't atomic, some writes of a failed chunk may yet have succeeded. Persists and deletes are idempotent though, so a failed chunk can simply be retried as a whole.
+ *
+ * @param <E> Type of elements of the bulk write (records or row keys)
+ */
+public class ChunkFailure<E> {
+
+    private final int chunkIndex;
+    private final List<E> elements;
+    private final Throwable cause;
+
+    ChunkFailure(int chunkIndex, List<E> elements, Throwable cause) {
+        this.chunkIndex = chunkIndex;
+        this.elements = new ArrayList<>(elements); // a copy, since chunks are views of caller's list (or array)
+        this.cause = cause;
+    }
+
+    /**
+     * @return Position of this chunk in the bulk write (<code>0</code> for the first chunk)
+     */
+    public int getChunkIndex() {
+        return chunkIndex;
+    }
+
+    /**
+     * @return Elements (records or row keys) of this chunk, i.e. what needs to be retried
+     */
+    public List<E> getElements() {
+        return elements;
+    }
+
+    /**
+     * @return Cause of failure
+     */
+    public Throwable getCause() {
+        return cause;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ChunkFailure[chunkIndex=%d, size=%d, cause=%s]", chunkIndex, elements.size(), cause);
+    }
+}
@@ -0,0 +1,451 @@
+package com.flipkart.hbaseobjectmapper;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * An immutable {@link NavigableMap} of timestamps (versions) and values, backed by a sorted <code>long[]</code> of timestamps and an array of values (for internal use only)
+ * <p>
+ * Fields annotated with {@link HBColumnMultiVersion} are populated with this map when rows are read from HBase. Compared to a {@link TreeMap}, this takes no tree node or boxed {@link Long} per version and is filled in one pass from cells of a column (which HBase returns latest version first).
+ * <p>
+ * Sub-maps and descending views share arrays of the map they are derived from. All mutating methods throw {@link UnsupportedOperationException}.
+ *
+ * @param <V> Type of values
+ */
+final class CompactVersionMap<V> extends AbstractMap<Long, V> implements NavigableMap<Long, V>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long[] timestamps;
+    private final Object[] values;
+    private final int lo, hi; // range of this view within arrays: [lo, hi)
+    private final boolean descending;
+
+    private CompactVersionMap(long[] timestamps, Object[] values, int lo, int hi, boolean descending) {
+        this.timestamps = timestamps;
+        this.values = values;
+        this.lo = lo;
+        this.hi = hi;
+        this.descending = descending;
+    }
+
+    /**
+     * Create a map from timestamps and their values (arrays are owned by the map thereafter)
+     * <p>
+     * Timestamps are expected to be in ascending order, in which case arrays are used as-is. Otherwise, they are sorted (and, for duplicate timestamps, the value that appears last wins).
+     */
+    static <V> CompactVersionMap<V> of(long[] timestamps, Object[] values) {
+        if (timestamps.length != values.length) {
+            throw new IllegalArgumentException(String.format("Number of timestamps (%d) and number of values (%d) differ", timestamps.length, values.length));
+        }
+        for (int i = 1; i < timestamps.length; i++) {
+            if (timestamps[i - 1] >= timestamps[i]) {
+                return sorted(timestamps, values);
+            }
+        }
+        return new CompactVersionMap<>(timestamps, values, 0, timestamps.length, false);
+    }
+
+    private static <V> CompactVersionMap<V> sorted(long[] timestamps, Object[] values) {
+        TreeMap<Long, Object> map = new TreeMap<>();
+        for (int i = 0; i < timestamps.length; i++) {
+            map.put(timestamps[i], values[i]);
+        }
+        long[] sortedTimestamps = new long[map.size()];
+        Object[] sortedValues = new Object[map.size()];
+        int i = 0;
+        for (Map.Entry<Long, Object> e : map.entrySet()) {
+            sortedTimestamps[i] = e.getKey();
+            sortedValues[i] = e.getValue();
+            i++;
+        }
+        return new CompactVersionMap<>(sortedTimestamps, sortedValues, 0, sortedTimestamps.length, false);
+    }
+
+    // Positions within arrays (-1 when there's no such position within range of this view):
+
+    private int lowestAtLeast(long key) {
+        int p = Arrays.binarySearch(timestamps, lo, hi, key);
+        p = p >= 0 ? p : -(p + 1);
+        return p < hi ? p : -1;
+    }
+
+    private int lowestAbove(long key) {
+        int p = Arrays.binarySearch(timestamps, lo, hi, key);
+        p = p >= 0 ? p + 1 : -(p + 1);
+        return p < hi ? p : -1;
+    }
+
+    private int highestAtMost(long key) {
+        int p = Arrays.binarySearch(timestamps, lo, hi, key);
+        p = p >= 0 ? p : -(p + 1) - 1;
+        return p >= lo ? p : -1;
+    }
+
+    private int highestBelow(long key) {
+        int p = Arrays.binarySearch(timestamps, lo, hi, key);
+        p = p >= 0 ? p - 1 : -(p + 1) - 1;
+        return p >= lo ? p : -1;
+    }
+
+    /**
+     * Position of least element that's greater than (or equal to, if <code>inclusive</code>) the key, or <code>hi</code> if there's none
+     */
+    private int lowerBound(long key, boolean inclusive) {
+        int p = inclusive ? lowestAtLeast(key) : lowestAbove(key);
+        return p == -1 ? hi : p;
+    }
+
+    /**
+     * Position next to greatest element that's less than (or equal to, if <code>inclusive</code>) the key, or <code>lo</code> if there's none
+     */
+    private int upperBound(long key, boolean inclusive) {
+        int p = inclusive ? highestAtMost(key) : highestBelow(key);
+        return p == -1 ? lo : p + 1;
+    }
+
+    private Entry<Long, V> entryAt(int p) {
+        return p == -1 ? null : new SimpleImmutableEntry<>(timestamps[p], valueAt(p));
+    }
+
+    private Long keyAt(int p) {
+        return p == -1 ? null : timestamps[p];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int p) {
+        return (V) values[p];
+    }
+
+    /**
+     * Position (within arrays) of <code>index</code>-th element in order of this view
+     */
+    private int position(int index) {
+        return descending ? hi - 1 - index : lo + index;
+    }
+
+    private CompactVersionMap<V> view(int lo, int hi) {
+        return new CompactVersionMap<>(timestamps, values, lo, Math.max(lo, hi), descending);
+    }
+
+    private static long toKey(Object key) {
+        return (Long) key;
+    }
+
+    @Override
+    public int size() {
+        return hi - lo;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return hi == lo;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return Arrays.binarySearch(timestamps, lo, hi, toKey(key)) >= 0;
+    }
+
+    @Override
+    public V get(Object key) {
+        int p = Arrays.binarySearch(timestamps, lo, hi, toKey(key));
+        return p >= 0 ? valueAt(p) : null;
+    }
+
+    @Override
+    public Comparator<? super Long> comparator() {
+        return descending ? Collections.<Long>reverseOrder() : null;
+    }
+
+    @Override
+    public Entry<Long, V> lowerEntry(Long key) {
+        return entryAt(descending ? lowestAbove(key) : highestBelow(key));
+    }
+
+    @Override
+    public Long lowerKey(Long key) {
+        return keyAt(descending ? lowestAbove(key) : highestBelow(key));
+    }
+
+    @Override
+    public Entry<Long, V> floorEntry(Long key) {
+        return entryAt(descending ? lowestAtLeast(key) : highestAtMost(key));
+    }
+
+    @Override
+    public Long floorKey(Long key) {
+        return keyAt(descending ? lowestAtLeast(key) : highestAtMost(key));
+    }
+
+    @Override
+    public Entry<Long, V> ceilingEntry(Long key) {
+        return entryAt(descending ? highestAtMost(key) : lowestAtLeast(key));
+    }
+
+    @Override
+    public Long ceilingKey(Long key) {
+        return keyAt(descending ? highestAtMost(key) : lowestAtLeast(key));
+    }
+
+    @Override
+    public Entry<Long, V> higherEntry(Long key) {
+        return entryAt(descending ? highestBelow(key) : lowestAbove(key));
+    }
+
+    @Override
+    public Long higherKey(Long key) {
+        return keyAt(descending ? highestBelow(key) : lowestAbove(key));
+    }
+
+    @Override
+    public Entry<Long, V> firstEntry() {
+        return isEmpty() ? null : entryAt(position(0));
+    }
+
+    @Override
+    public Entry<Long, V> lastEntry() {
+        return isEmpty() ? null : entryAt(position(size() - 1));
+    }
+
+    @Override
+    public Long firstKey() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return timestamps[position(0)];
+    }
+
+    @Override
+    public Long lastKey() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return timestamps[position(size() - 1)];
+    }
+
+    @Override
+    public Entry<Long, V> pollFirstEntry() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Entry<Long, V> pollLastEntry() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public NavigableMap<Long, V> descendingMap() {
+        return new CompactVersionMap<>(timestamps, values, lo, hi, !descending);
+    }
+
+    @Override
+    public NavigableMap<Long, V> subMap(Long fromKey, boolean fromInclusive, Long toKey, boolean toInclusive) {
+        if (descending ? fromKey < toKey : fromKey > toKey) {
+            throw new IllegalArgumentException(String.format("fromKey (%d) is beyond toKey (%d)", fromKey, toKey));
+        }
+        return descending
+                ? view(lowerBound(toKey, toInclusive), upperBound(fromKey, fromInclusive))
+                : view(lowerBound(fromKey, fromInclusive), upperBound(toKey, toInclusive));
+    }
+
+    @Override
+    public NavigableMap<Long, V> headMap(Long toKey, boolean inclusive) {
+        return descending ? view(lowerBound(toKey, inclusive), hi) : view(lo, upperBound(toKey, inclusive));
+    }
+
+    @Override
+    public NavigableMap<Long, V> tailMap(Long fromKey, boolean inclusive) {
+        return descending ? view(lo, upperBound(fromKey, inclusive)) : view(lowerBound(fromKey, inclusive), hi);
+    }
+
+    @Override
+    public SortedMap<Long, V> subMap(Long fromKey, Long toKey) {
+        return subMap(fromKey, true, toKey, false);
+    }
+
+    @Override
+    public SortedMap<Long, V> headMap(Long toKey) {
+        return headMap(toKey, false);
+    }
+
+    @Override
+    public SortedMap<Long, V> tailMap(Long fromKey) {
+        return tailMap(fromKey, true);
+    }
+
+    @Override
+    public Set<Entry<Long, V>> entrySet() {
+        return new AbstractSet<Entry<Long, V>>() {
+            @Override
+            public Iterator<Entry<Long, V>> iterator() {
+                return new PositionIterator<Entry<Long, V>>() {
+                    @Override
+                    Entry<Long, V> at(int p) {
+                        return entryAt(p);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return CompactVersionMap.this.size();
+            }
+        };
+    }
+
+    @Override
+    public Set<Long> keySet() {
+        return navigableKeySet();
+    }
+
+    @Override
+    public NavigableSet<Long> navigableKeySet() {
+        return new KeySet<>(this);
+    }
+
+    @Override
+    public NavigableSet<Long> descendingKeySet() {
+        return descendingMap().navigableKeySet();
+    }
+
+    /**
+     * Iterates over positions of this view, in it's order
+     */
+    private abstract class PositionIterator<E> implements Iterator<E> {
+        private int index = 0;
+
+        abstract E at(int p);
+
+        @Override
+        public boolean hasNext() {
+            return index < size();
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return at(position(index++));
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class KeySet<V> extends AbstractSet<Long> implements NavigableSet<Long> {
+        private final CompactVersionMap<V> map;
+
+        private KeySet(CompactVersionMap<V> map) {
+            this.map = map;
+        }
+
+        @Override
+        public Iterator<Long> iterator() {
+            return map.new PositionIterator<Long>() {
+                @Override
+                Long at(int p) {
+                    return map.timestamps[p];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return map.containsKey(o);
+        }
+
+        @Override
+        public Long lower(Long e) {
+            return map.lowerKey(e);
+        }
+
+        @Override
+        public Long floor(Long e) {
+            return map.floorKey(e);
+        }
+
+        @Override
+        public Long ceiling(Long e) {
+            return map.ceilingKey(e);
+        }
+
+        @Override
+        public Long higher(Long e) {
+            return map.higherKey(e);
+        }
+
+        @Override
+        public Long pollFirst() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Long pollLast() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public NavigableSet<Long> descendingSet() {
+            return map.descendingKeySet();
+        }
+
+        @Override
+        public Iterator<Long> descendingIterator() {
+            return descendingSet().iterator();
+        }
+
+        @Override
+        public NavigableSet<Long> subSet(Long fromElement, boolean fromInclusive, Long toElement, boolean toInclusive) {
+            return map.subMap(fromElement, fromInclusive, toElement, toInclusive).navigableKeySet();
+        }
+
+        @Override
+        public NavigableSet<Long> headSet(Long toElement, boolean inclusive) {
+            return map.headMap(toElement, inclusive).navigableKeySet();
+        }
+
+        @Override
+        public NavigableSet<Long> tailSet(Long fromElement, boolean inclusive) {
+            return map.tailMap(fromElement, inclusive).navigableKeySet();
+        }
+
+        @Override
+        public SortedSet<Long> subSet(Long fromElement, Long toElement) {
+            return subSet(fromElement, true, toElement, false);
+        }
+
+        @Override
+        public SortedSet<Long> headSet(Long toElement) {
+            return headSet(toElement, false);
+        }
+
+        @Override
+        public SortedSet<Long> tailSet(Long fromElement) {
+            return tailSet(fromElement, true);
+        }
+
+        @Override
+        public Comparator<? super Long> comparator() {
+            return map.comparator();
+        }
+
+        @Override
+        public Long first() {
+            return map.firstKey();
+        }
+
+        @Override
+        public Long last() {
+            return map.lastKey();
+        }
+    }
+}
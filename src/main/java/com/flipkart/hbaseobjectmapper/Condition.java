@@ -0,0 +1,274 @@
+package com.flipkart.hbaseobjectmapper;
+
+import com.google.common.reflect.TypeToken;
+import org.apache.hadoop.hbase.filter.*;
+
+import java.io.Serializable;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A condition on fields (or row key) of your bean-like class, that is evaluated on HBase region servers (i.e. rows that don't satisfy it are never sent to client)
+ * <p>
+ * Conditions are built in terms of field names and values of your bean-like class, e.g.
+ * <pre>
+ * import static com.flipkart.hbaseobjectmapper.Condition.field;
+ * ...
+ * Condition condition = field("age").gt((short) 30).and(field("name").startsWith("A"));
+ * List&lt;Citizen&gt; citizens = citizenDao.get(startRowKey, endRowKey, condition);
+ * </pre>
+ * and are translated (see {@link AbstractHBDAO#getFilter(Condition)}) to HBase {@link Filter}s, with values serialized by the same codec (and codec flags) that's used for the field.
+ * <p>
+ * <b>Please note</b>:
+ * <ul>
+ * <li>HBase compares values as byte arrays (lexicographically). Hence, conditions other than <code>eq</code>/<code>ne</code> are meaningful only when your codec's serialization preserves order of values (e.g. {@link com.flipkart.hbaseobjectmapper.codec.BestSuitCodec BestSuitCodec} serializes {@link String}s as-is and non-negative numbers in big-endian order, but negative numbers sort after positive ones)</li>
+ * <li>Likewise, <code>startsWith</code> conditions are meaningful only when your codec serializes {@link String}s as-is</li>
+ * <li>Rows that don't have a value for a field don't satisfy any condition on that field</li>
+ * <li>Condition on a multi-versioned field is evaluated against latest version of it's value</li>
+ * </ul>
+ */
+public abstract class Condition {
+
+    Condition() {
+    }
+
+    /**
+     * Start a condition on a field
+     *
+     * @param fieldName Name of the private variable of your bean-like object (of a class that implements {@link HBRecord})
+     * @return Operand, on which a condition can be built
+     */
+    public static FieldOperand field(String fieldName) {
+        return new FieldOperand(fieldName);
+    }
+
+    /**
+     * Start a condition on row key
+     *
+     * @return Operand, on which a condition can be built
+     */
+    public static RowKeyOperand rowKey() {
+        return new RowKeyOperand();
+    }
+
+    /**
+     * Combine this condition with others, such that all of them must be satisfied
+     *
+     * @param conditions Other conditions
+     * @return Combined condition
+     */
+    public Condition and(Condition... conditions) {
+        return new CompositeCondition(FilterList.Operator.MUST_PASS_ALL, this, conditions);
+    }
+
+    /**
+     * Combine this condition with others, such that at least one of them must be satisfied
+     *
+     * @param conditions Other conditions
+     * @return Combined condition
+     */
+    public Condition or(Condition... conditions) {
+        return new CompositeCondition(FilterList.Operator.MUST_PASS_ONE, this, conditions);
+    }
+
+    /**
+     * Translate this condition to an HBase {@link Filter}
+     */
+    abstract Filter toFilter(HBObjectMapper hbObjectMapper, WrappedHBEntity<?, ?> entity);
+
+    /**
+     * A field of your bean-like class, on which a condition can be built
+     */
+    public static class FieldOperand {
+        private final String fieldName;
+
+        private FieldOperand(String fieldName) {
+            if (fieldName == null || fieldName.isEmpty()) {
+                throw new IllegalArgumentException("Field name can't be empty");
+            }
+            this.fieldName = fieldName;
+        }
+
+        /**
+         * Value of field is equal to given value
+         *
+         * @param value Value (must be of same type as field)
+         * @return Condition
+         */
+        public Condition eq(Serializable value) {
+            return new FieldCondition(fieldName, CompareFilter.CompareOp.EQUAL, value, false);
+        }
+
+        /**
+         * Value of field is not equal to given value
+         *
+         * @param value Value (must be of same type as field)
+         * @return Condition
+         */
+        public Condition ne(Serializable value) {
+            return new FieldCondition(fieldName, CompareFilter.CompareOp.NOT_EQUAL, value, false);
+        }
+
+        /**
+         * Value of field is greater than given value
+         *
+         * @param value Value (must be of same type as field)
+         * @return Condition
+         */
+        public Condition gt(Serializable value) {
+            return new FieldCondition(fieldName, CompareFilter.CompareOp.GREATER, value, false);
+        }
+
+        /**
+         * Value of field is greater than or equal to given value
+         *
+         * @param value Value (must be of same type as field)
+         * @return Condition
+         */
+        public Condition ge(Serializable value) {
+            return new FieldCondition(fieldName, CompareFilter.CompareOp.GREATER_OR_EQUAL, value, false);
+        }
+
+        /**
+         * Value of field is less than given value
+         *
+         * @param value Value (must be of same type as field)
+         * @return Condition
+         */
+        public Condition lt(Serializable value) {
+            return new FieldCondition(fieldName, CompareFilter.CompareOp.LESS, value, false);
+        }
+
+        /**
+         * Value of field is less than or equal to given value
+         *
+         * @param value Value (must be of same type as field)
+         * @return Condition
+         */
+        public Condition le(Serializable value) {
+            return new FieldCondition(fieldName, CompareFilter.CompareOp.LESS_OR_EQUAL, value, false);
+        }
+
+        /**
+         * Value of field starts with given prefix (for fields of type {@link String})
+         *
+         * @param prefix Prefix
+         * @return Condition
+         */
+        public Condition startsWith(String prefix) {
+            return new FieldCondition(fieldName, CompareFilter.CompareOp.EQUAL, prefix, true);
+        }
+    }
+
+    /**
+     * Row key of your bean-like class, on which a condition can be built
+     */
+    public static class RowKeyOperand {
+
+        private RowKeyOperand() {
+        }
+
+        /**
+         * Row key starts with given prefix (for row keys of type {@link String})
+         *
+         * @param prefix Prefix
+         * @return Condition
+         */
+        public Condition startsWith(String prefix) {
+            return new RowKeyPrefixCondition(prefix);
+        }
+    }
+
+    private static byte[] serialize(HBObjectMapper hbObjectMapper, Serializable value, Type type, Map<String, String> codecFlags, String operandDescription) {
+        if (value == null) {
+            throw new IllegalArgumentException(String.format("Value to compare %s with can't be null", operandDescription));
+        }
+        final Class<?> rawType = TypeToken.of(type).getRawType();
+        if (!rawType.isInstance(value)) {
+            throw new IllegalArgumentException(String.format("Value to compare %s with must be of type %s (passed value '%s' is of type %s)", operandDescription, rawType.getName(), value, value.getClass().getName()));
+        }
+        return hbObjectMapper.valueToByteArray(value, codecFlags);
+    }
+
+    private static class FieldCondition extends Condition {
+        private final String fieldName;
+        private final CompareFilter.CompareOp compareOp;
+        private final Serializable value;
+        private final boolean prefix;
+
+        private FieldCondition(String fieldName, CompareFilter.CompareOp compareOp, Serializable value, boolean prefix) {
+            this.fieldName = fieldName;
+            this.compareOp = compareOp;
+            this.value = value;
+            this.prefix = prefix;
+        }
+
+        @Override
+        Filter toFilter(HBObjectMapper hbObjectMapper, WrappedHBEntity<?, ?> entity) {
+            WrappedHBColumn hbColumn = entity.getColumn(fieldName);
+            if (hbColumn == null) {
+                throw new IllegalArgumentException(String.format("Unrecognized field: '%s'. Choose one of %s", fieldName, entity.getFields().keySet()));
+            }
+            byte[] valueBytes = serialize(hbObjectMapper, value, hbColumn.fieldType(), hbColumn.codecFlags(), String.format("field '%s'", fieldName));
+            ByteArrayComparable comparator = prefix ? new BinaryPrefixComparator(valueBytes) : new BinaryComparator(valueBytes);
+            SingleColumnValueFilter filter = new SingleColumnValueFilter(hbColumn.familyBytes(), hbColumn.columnBytes(), compareOp, comparator);
+            filter.setFilterIfMissing(true);
+            filter.setLatestVersionOnly(true);
+            return filter;
+        }
+    }
+
+    private static class RowKeyPrefixCondition extends Condition {
+        private final String prefix;
+
+        private RowKeyPrefixCondition(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        Filter toFilter(HBObjectMapper hbObjectMapper, WrappedHBEntity<?, ?> entity) {
+            return new PrefixFilter(serialize(hbObjectMapper, prefix, entity.getRowKeyType(), entity.getHBTable().getCodecFlags(), "row key"));
+        }
+    }
+
+    private static class CompositeCondition extends Condition {
+        private final FilterList.Operator operator;
+        private final List<Condition> conditions;
+
+        private CompositeCondition(FilterList.Operator operator, Condition first, Condition... others) {
+            this.operator = operator;
+            List<Condition> conditions = new ArrayList<>(1 + others.length);
+            add(conditions, first);
+            for (Condition condition : others) {
+                add(conditions, condition);
+            }
+            this.conditions = Collections.unmodifiableList(conditions);
+        }
+
+        /**
+         * Flattens nested conditions of same operator, e.g. <code>a.and(b).and(c)</code> to <code>and(a, b, c)</code>
+         */
+        private void add(List<Condition> conditions, Condition condition) {
+            if (condition == null) {
+                throw new IllegalArgumentException("Condition can't be null");
+            }
+            if (condition instanceof CompositeCondition && ((CompositeCondition) condition).operator == operator) {
+                conditions.addAll(((CompositeCondition) condition).conditions);
+            } else {
+                conditions.add(condition);
+            }
+        }
+
+        @Override
+        Filter toFilter(HBObjectMapper hbObjectMapper, WrappedHBEntity<?, ?> entity) {
+            List<Filter> filters = new ArrayList<>(conditions.size());
+            for (Condition condition : conditions) {
+                filters.add(condition.toFilter(hbObjectMapper, entity));
+            }
+            return new FilterList(operator, filters);
+        }
+    }
+}
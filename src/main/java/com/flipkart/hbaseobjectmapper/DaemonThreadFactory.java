@@ -0,0 +1,32 @@
+package com.flipkart.hbaseobjectmapper;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates named daemon threads, for pools that run HBase calls concurrently on behalf of a DAO (for internal use only)
+ * <p>
+ * Threads are daemons so that a pool that isn't shut down (e.g. due to a bug in caller's code) doesn't prevent JVM from exiting.
+ */
+class DaemonThreadFactory implements ThreadFactory {
+
+    private static final AtomicInteger poolCount = new AtomicInteger();
+
+    private final String namePrefix;
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    /**
+     * @param purpose   What threads of the pool do (e.g. "scan"), to be used in thread names
+     * @param tableName Name of table threads of the pool access, to be used in thread names
+     */
+    DaemonThreadFactory(String purpose, String tableName) {
+        this.namePrefix = String.format("hbase-orm-%s-%d-%s-", purpose, poolCount.incrementAndGet(), tableName);
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
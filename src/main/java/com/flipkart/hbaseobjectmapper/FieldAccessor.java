@@ -0,0 +1,157 @@
+package com.flipkart.hbaseobjectmapper;
+
+import com.flipkart.hbaseobjectmapper.exceptions.BadHBaseLibStateException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+/**
+ * Reads and writes value of a field of an entity class (for internal use only)
+ * <p>
+ * An accessor is resolved once per field (see {@link #of(Field)}) and is then reused for all records of the entity class, so that per-record access doesn't pay for access checks.
+ */
+abstract class FieldAccessor {
+
+    private final Field field;
+
+    FieldAccessor(Field field) {
+        this.field = field;
+    }
+
+    /**
+     * Get value of field from given record
+     */
+    abstract Object get(Object record) throws IllegalAccessException;
+
+    /**
+     * Set value of field on given record
+     */
+    abstract void set(Object record, Object value) throws IllegalAccessException;
+
+    Field getField() {
+        return field;
+    }
+
+    /**
+     * Resolves the fastest available accessor for the field: one that's generated at compile time (see {@link HBGeneratedMapper}) or one that's based on {@link MethodHandle}s or, if neither can be resolved, one that's based on plain reflection
+     *
+     * @param field           Field of an entity class
+     * @param generatedMapper Mapper generated for the entity class (<code>null</code> if there is none)
+     * @return Accessor for the field
+     */
+    static FieldAccessor of(Field field, HBGeneratedMapper<?> generatedMapper) {
+        if (generatedMapper != null) {
+            int fieldIndex = Arrays.asList(generatedMapper.fieldNames()).indexOf(field.getName());
+            if (fieldIndex >= 0) {
+                return new GeneratedFieldAccessor(field, generatedMapper, fieldIndex);
+            }
+        }
+        return of(field);
+    }
+
+    /**
+     * Resolves the fastest available accessor for the field, without any help from generated code (see {@link #of(Field, HBGeneratedMapper)})
+     */
+    static FieldAccessor of(Field field) {
+        if (!Modifier.isStatic(field.getModifiers())) {
+            try {
+                return new MethodHandleFieldAccessor(field);
+            } catch (IllegalAccessException | RuntimeException ignored) {
+                // fall back to reflection
+            }
+        }
+        return new ReflectiveFieldAccessor(field);
+    }
+
+    /**
+     * Accessor that delegates to a mapper generated at compile time
+     */
+    static class GeneratedFieldAccessor extends FieldAccessor {
+        @SuppressWarnings("rawtypes")
+        private final HBGeneratedMapper generatedMapper;
+        private final int fieldIndex;
+
+        GeneratedFieldAccessor(Field field, HBGeneratedMapper<?> generatedMapper, int fieldIndex) {
+            super(field);
+            this.generatedMapper = generatedMapper;
+            this.fieldIndex = fieldIndex;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Object get(Object record) {
+            return generatedMapper.getFieldValue((HBRecord<?>) record, fieldIndex);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void set(Object record, Object value) {
+            generatedMapper.setFieldValue((HBRecord<?>) record, fieldIndex, value);
+        }
+    }
+
+    /**
+     * Accessor that uses {@link MethodHandle}s, unreflected once from the {@link Field}
+     */
+    static class MethodHandleFieldAccessor extends FieldAccessor {
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class),
+                SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+        private final MethodHandle getter, setter;
+
+        MethodHandleFieldAccessor(Field field) throws IllegalAccessException {
+            super(field);
+            field.setAccessible(true);
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            this.getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+            this.setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+        }
+
+        @Override
+        Object get(Object record) {
+            try {
+                return (Object) getter.invokeExact(record);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new BadHBaseLibStateException(t);
+            }
+        }
+
+        @Override
+        void set(Object record, Object value) {
+            try {
+                setter.invokeExact(record, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new BadHBaseLibStateException(t);
+            }
+        }
+    }
+
+    /**
+     * Accessor that uses plain reflection (i.e. {@link Field#get(Object)} and {@link Field#set(Object, Object)})
+     */
+    static class ReflectiveFieldAccessor extends FieldAccessor {
+
+        ReflectiveFieldAccessor(Field field) {
+            super(field);
+            field.setAccessible(true);
+        }
+
+        @Override
+        Object get(Object record) throws IllegalAccessException {
+            return getField().get(record);
+        }
+
+        @Override
+        void set(Object record, Object value) throws IllegalAccessException {
+            getField().set(record, value);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.flipkart.hbaseobjectmapper;
+
+import java.io.Serializable;
+
+/**
+ * A version of value of a field, for a row (an element of {@link FieldValues})
+ *
+ * @param <R> Data type of row key
+ */
+public class FieldValue<R extends Serializable & Comparable<R>> {
+
+    private final R rowKey;
+    private final long timestamp;
+    private final Object value;
+
+    FieldValue(R rowKey, long timestamp, Object value) {
+        this.rowKey = rowKey;
+        this.timestamp = timestamp;
+        this.value = value;
+    }
+
+    /**
+     * @return Row key of the row this value belongs to
+     */
+    public R getRowKey() {
+        return rowKey;
+    }
+
+    /**
+     * @return Timestamp (version) of this value
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return Value of the field (boxed)
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FieldValue[rowKey=%s, timestamp=%d, value=%s]", rowKey, timestamp, value);
+    }
+}
@@ -0,0 +1,103 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+
+import java.io.Closeable;
+import java.io.Serializable;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A lazily-read range of values of a field (i.e. of an HBase column), one version at a time, as they are read from HBase.
+ * <p>
+ * Unlike {@link AbstractHBDAO#fetchFieldValues(Serializable, Serializable, String, int)}, this doesn't collect the range in memory, so a column of a large table can be swept through in constant memory. Row key of a row is deserialized once (however many versions the row has) and versions of a row are returned latest first (as they are stored in HBase).
+ * <p>
+ * Just like {@link Records}, this wraps an HBase {@link ResultScanner} and hence must be closed after use (the scanner is also closed as soon as the last value is read). It can be iterated only once and isn't thread-safe.
+ *
+ * @param <R> Data type of row key
+ * @see AbstractHBDAO#fieldValues(Serializable, Serializable, String, int)
+ */
+public class FieldValues<R extends Serializable & Comparable<R>> implements Closeable, Iterable<FieldValue<R>> {
+
+    private final SourceIterable<FieldValue<R>> fieldValues;
+
+    <T extends HBRecord<R>> FieldValues(final ResultScanner scanner, final HBObjectMapper hbObjectMapper, final WrappedHBEntity<R, T> entity, final WrappedHBColumn hbColumn) {
+        final Type fieldType = hbColumn.fieldType();
+        final Map<String, String> codecFlags = hbColumn.codecFlags();
+        this.fieldValues = new SourceIterable<>(new Records.Source<FieldValue<R>>() {
+            @Override
+            public Iterator<FieldValue<R>> open() {
+                final Iterator<Result> results = new RowStitchingIterator(scanner.iterator());
+                return new Iterator<FieldValue<R>>() {
+                    private R rowKey;
+                    private Iterator<Cell> cells = Collections.emptyIterator();
+
+                    @Override
+                    public boolean hasNext() {
+                        while (!cells.hasNext()) {
+                            if (!results.hasNext()) {
+                                return false;
+                            }
+                            Result result = results.next();
+                            if (result.isEmpty()) {
+                                continue;
+                            }
+                            List<Cell> columnCells = result.getColumnCells(hbColumn.familyBytes(), hbColumn.columnBytes());
+                            if (columnCells.isEmpty()) {
+                                continue;
+                            }
+                            Cell cell = columnCells.get(0);
+                            rowKey = hbObjectMapper.bytesToRowKey(cell.getRowArray(), cell.getRowOffset(), cell.getRowLength(), entity);
+                            cells = columnCells.iterator();
+                        }
+                        return true;
+                    }
+
+                    @Override
+                    public FieldValue<R> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Cell cell = cells.next();
+                        return new FieldValue<>(rowKey, cell.getTimestamp(), hbObjectMapper.byteArrayToValue(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength(), fieldType, codecFlags));
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+
+            @Override
+            public void close() {
+                scanner.close();
+            }
+        }, "Field values");
+    }
+
+    /**
+     * Get an iterator over values of the field in this range. Values are fetched from HBase (in batches, as per 'caching' set on the scan) only as the iterator advances.
+     *
+     * @return Iterator over values of the field
+     * @throws IllegalStateException If this method is called more than once or after {@link #close()}
+     */
+    @Override
+    public Iterator<FieldValue<R>> iterator() {
+        return fieldValues.iterator();
+    }
+
+    /**
+     * Close the underlying scanner, releasing it's resources on region servers. This method is idempotent.
+     */
+    @Override
+    public void close() {
+        fieldValues.close();
+    }
+}
@@ -17,6 +17,8 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * As the name explains, this annotation is the multi-version variant of {@link HBColumn}.
  * <p>
  * <b>Please note</b>: <code>T</code> must be {@link Serializable}
+ * <p>
+ * When a row is read from HBase, this field is populated with a compact, <b>immutable</b> map (backed by arrays, rather than a {@link java.util.TreeMap}). To modify versions of an object that was read, replace the map (e.g. with a <code>new TreeMap&lt;&gt;(map)</code>) rather than modify it.
  */
 @Target(FIELD)
 @Retention(RUNTIME)
@@ -0,0 +1,47 @@
+package com.flipkart.hbaseobjectmapper;
+
+/**
+ * <p>Instantiates and accesses fields of an entity class with plain (reflection-free) code. Implementations of this interface are generated at compile time by {@link com.flipkart.hbaseobjectmapper.processor.HBRecordProcessor HBRecordProcessor} and aren't meant to be written by hand.
+ * <p>When an implementation named <code>&lt;entity class&gt;_HBMapper</code> (e.g. <code>Citizen_HBMapper</code> for <code>Citizen</code>, <code>Outer_Inner_HBMapper</code> for nested class <code>Outer.Inner</code>) is present in the package of an entity class, {@link HBObjectMapper} prefers it over reflection.
+ *
+ * @param <T> Entity type
+ */
+public interface HBGeneratedMapper<T extends HBRecord<?>> {
+
+    /**
+     * Suffix of name of a generated mapper class
+     */
+    String CLASS_NAME_SUFFIX = "_HBMapper";
+
+    /**
+     * Names of fields this mapper can access. Position of a field name in this array is the index with which it's accessed in {@link #getFieldValue(HBRecord, int)} and {@link #setFieldValue(HBRecord, int, Object)}.
+     *
+     * @return Names of fields (a fresh array)
+     */
+    String[] fieldNames();
+
+    /**
+     * Create a new (empty) object of the entity class
+     *
+     * @return Object of entity class
+     */
+    T newRecord();
+
+    /**
+     * Get value of a field
+     *
+     * @param record     Object of entity class
+     * @param fieldIndex Index of the field (as per {@link #fieldNames()})
+     * @return Value of the field
+     */
+    Object getFieldValue(T record, int fieldIndex);
+
+    /**
+     * Set value of a field
+     *
+     * @param record     Object of entity class
+     * @param fieldIndex Index of the field (as per {@link #fieldNames()})
+     * @param value      Value of the field
+     */
+    void setFieldValue(T record, int fieldIndex, Object value);
+}
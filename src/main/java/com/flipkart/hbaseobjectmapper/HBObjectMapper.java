@@ -1,15 +1,17 @@
 package com.flipkart.hbaseobjectmapper;
 
 import com.flipkart.hbaseobjectmapper.codec.BestSuitCodec;
+import com.flipkart.hbaseobjectmapper.codec.ByteRangeCodec;
+import com.flipkart.hbaseobjectmapper.codec.ByteRangeCodecAdapter;
 import com.flipkart.hbaseobjectmapper.codec.Codec;
 import com.flipkart.hbaseobjectmapper.codec.exceptions.DeserializationException;
 import com.flipkart.hbaseobjectmapper.codec.exceptions.SerializationException;
 import com.flipkart.hbaseobjectmapper.exceptions.*;
-import com.flipkart.hbaseobjectmapper.exceptions.InternalError;
 import org.apache.hadoop.hbase.Cell;
 import org.apache.hadoop.hbase.CellUtil;
 import org.apache.hadoop.hbase.HConstants;
 import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.client.Delete;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.io.ImmutableBytesWritable;
@@ -18,6 +20,8 @@ import org.apache.hadoop.hbase.util.Bytes;
 import java.io.Serializable;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * <p>An <b>object mapper class</b> that helps convert/serialize objects of your bean-like class to HBase's {@link Put} and {@link Result} objects (and vice-versa). Your 'bean-like class' <b>must</b> implement {@link HBRecord} interface and should preferably follow <a href="https://en.wikipedia.org/wiki/JavaBeans#JavaBean_conventions">JavaBeans conventions</a>.
@@ -33,7 +37,12 @@ public class HBObjectMapper {
 
     private static final Codec DEFAULT_CODEC = new BestSuitCodec();
 
-    private final Codec codec;
+    private final ByteRangeCodec codec;
+
+    /**
+     * Validated mapping metadata of entity classes, built once per class (validation is specific to the {@link Codec}, hence this isn't shared across instances)
+     */
+    private final ConcurrentMap<Class<?>, WrappedHBEntity<?, ?>> entities = new ConcurrentHashMap<>();
 
     /**
      * Instantiate object of this class with a custom {@link Codec}
@@ -45,7 +54,7 @@ public class HBObjectMapper {
         if (codec == null) {
             throw new IllegalArgumentException("Parameter 'codec' cannot be null. If you want to use the default codec, use the no-arg constructor");
         }
-        this.codec = codec;
+        this.codec = ByteRangeCodecAdapter.of(codec);
     }
 
     /**
@@ -69,50 +78,60 @@ public class HBObjectMapper {
     }
 
     @SuppressWarnings("unchecked")
-    <R extends Serializable & Comparable<R>, T extends HBRecord<R>> R bytesToRowKey(byte[] rowKeyBytes, Map<String, String> codecFlags, Class<T> entityClass) {
-        try {
-            return (R) byteArrayToValue(rowKeyBytes, entityClass.getDeclaredMethod("composeRowKey").getReturnType(), codecFlags);
-        } catch (NoSuchMethodException e) {
-            throw new InternalError(e);
-        }
+    <R extends Serializable & Comparable<R>, T extends HBRecord<R>> R bytesToRowKey(byte[] rowKeyBytes, WrappedHBEntity<R, T> entity) {
+        return (R) byteArrayToValue(rowKeyBytes, entity.getRowKeyType(), entity.getHBTable().getCodecFlags());
+    }
+
+    @SuppressWarnings("unchecked")
+    <R extends Serializable & Comparable<R>, T extends HBRecord<R>> R bytesToRowKey(byte[] array, int offset, int length, WrappedHBEntity<R, T> entity) {
+        return (R) byteArrayToValue(array, offset, length, entity.getRowKeyType(), entity.getHBTable().getCodecFlags());
     }
 
     /**
-     * Core method that drives serialization
+     * Core method that drives deserialization
+     * <p>
+     * Cells are expected in the order HBase sorts them (i.e. by column family, then by column and then by timestamp, latest first), which is the order entity's columns are sorted in too. So, cells are matched to columns in a single pass (a merge-join) and values are decoded straight from cells' backing arrays.
      */
-    private <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T convertMapToRecord(byte[] rowKeyBytes, NavigableMap<byte[], NavigableMap<byte[], NavigableMap<Long, byte[]>>> map, Class<T> clazz) {
-        Collection<Field> fields = getHBColumnFields0(clazz).values();
-        WrappedHBTable<R, T> hbTable = new WrappedHBTable<>(clazz);
-        R rowKey = bytesToRowKey(rowKeyBytes, hbTable.getCodecFlags(), clazz);
-        T record;
-        try {
-            record = clazz.newInstance();
-        } catch (Exception ex) {
-            throw new ObjectNotInstantiatableException("Error while instantiating empty constructor of " + clazz.getName(), ex);
-        }
+    private <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T convertCellsToRecord(byte[] rowKeyBytes, Cell[] cells, WrappedHBEntity<R, T> entity) {
+        R rowKey = bytesToRowKey(rowKeyBytes, entity);
+        T record = entity.newRecord();
         try {
             record.parseRowKey(rowKey);
         } catch (Exception ex) {
             throw new RowKeyCouldNotBeParsedException(String.format("Supplied row key \"%s\" could not be parsed", rowKey), ex);
         }
-        for (Field field : fields) {
-            WrappedHBColumn hbColumn = new WrappedHBColumn(field);
-            NavigableMap<byte[], NavigableMap<Long, byte[]>> familyMap = map.get(hbColumn.familyBytes());
-            if (familyMap == null || familyMap.isEmpty())
-                continue;
-            NavigableMap<Long, byte[]> columnVersionsMap = familyMap.get(hbColumn.columnBytes());
-            if (hbColumn.isSingleVersioned()) {
-                if (columnVersionsMap == null || columnVersionsMap.isEmpty())
-                    continue;
-                Map.Entry<Long, byte[]> lastEntry = columnVersionsMap.lastEntry();
-                objectSetFieldValue(record, field, lastEntry.getValue(), hbColumn.codecFlags());
+        List<WrappedHBColumn> columns = entity.getColumns();
+        int cellIndex = 0, columnIndex = 0;
+        while (cellIndex < cells.length && columnIndex < columns.size()) {
+            WrappedHBColumn hbColumn = columns.get(columnIndex);
+            int comparison = compareColumn(cells[cellIndex], hbColumn);
+            if (comparison < 0) { // cell belongs to a column that isn't mapped
+                cellIndex++;
+            } else if (comparison > 0) { // mapped column isn't present
+                columnIndex++;
             } else {
-                objectSetFieldValue(record, field, columnVersionsMap, hbColumn.codecFlags());
+                int endCellIndex = cellIndex + 1;
+                while (endCellIndex < cells.length && compareColumn(cells[endCellIndex], hbColumn) == 0) {
+                    endCellIndex++;
+                }
+                if (hbColumn.isSingleVersioned()) {
+                    objectSetFieldValue(record, hbColumn, cells[cellIndex]); // the latest version
+                } else {
+                    objectSetFieldValue(record, hbColumn, cells, cellIndex, endCellIndex);
+                }
+                cellIndex = endCellIndex;
+                columnIndex++;
             }
         }
         return record;
     }
 
+    private static int compareColumn(Cell cell, WrappedHBColumn hbColumn) {
+        byte[] family = hbColumn.familyBytes(), column = hbColumn.columnBytes();
+        int familyComparison = Bytes.compareTo(cell.getFamilyArray(), cell.getFamilyOffset(), cell.getFamilyLength(), family, 0, family.length);
+        return familyComparison != 0 ? familyComparison : Bytes.compareTo(cell.getQualifierArray(), cell.getQualifierOffset(), cell.getQualifierLength(), column, 0, column.length);
+    }
+
     /**
      * Converts a {@link Serializable} object into a <code>byte[]</code>
      *
@@ -120,7 +139,7 @@ public class HBObjectMapper {
      * @param codecFlags Flags to be passed to Codec
      * @return Byte-array representing serialized object
      */
-    private byte[] valueToByteArray(Serializable value, Map<String, String> codecFlags) {
+    byte[] valueToByteArray(Serializable value, Map<String, String> codecFlags) {
         try {
             return codec.serialize(value, codecFlags);
         } catch (SerializationException e) {
@@ -140,7 +159,23 @@ public class HBObjectMapper {
         return new ImmutableBytesWritable(valueToByteArray(value, null));
     }
 
-    <R extends Serializable & Comparable<R>, T extends HBRecord<R>> WrappedHBTable<R, T> validateHBClass(Class<T> clazz) {
+    /**
+     * Validates the entity class and returns it's mapping metadata. Validation happens only on first invocation for a given class (the outcome is cached only if validation succeeds).
+     */
+    @SuppressWarnings("unchecked")
+    <R extends Serializable & Comparable<R>, T extends HBRecord<R>> WrappedHBEntity<R, T> validateHBClass(Class<T> clazz) {
+        WrappedHBEntity<R, T> entity = (WrappedHBEntity<R, T>) entities.get(clazz);
+        if (entity == null) {
+            entity = validateHBClass0(clazz);
+            WrappedHBEntity<R, T> existingEntity = (WrappedHBEntity<R, T>) entities.putIfAbsent(clazz, entity);
+            if (existingEntity != null) {
+                entity = existingEntity;
+            }
+        }
+        return entity;
+    }
+
+    private <R extends Serializable & Comparable<R>, T extends HBRecord<R>> WrappedHBEntity<R, T> validateHBClass0(Class<T> clazz) {
         Constructor constructor;
         try {
             constructor = clazz.getDeclaredConstructor();
@@ -150,7 +185,7 @@ public class HBObjectMapper {
         if (!Modifier.isPublic(constructor.getModifiers())) {
             throw new EmptyConstructorInaccessibleException(String.format("Empty constructor of class %s is inaccessible. It needs to be public.", clazz.getName()));
         }
-        int numOfHBColumns = 0, numOfHBRowKeys = 0;
+        int numOfHBRowKeys = 0;
         WrappedHBTable<R, T> hbTable = new WrappedHBTable<>(clazz);
         Set<FamilyAndColumn> columns = new HashSet<>(clazz.getDeclaredFields().length, 1.0f);
         for (Field field : clazz.getDeclaredFields()) {
@@ -162,6 +197,8 @@ public class HBObjectMapper {
             throw new MissingHBRowKeyFieldsException(clazz);
         }
         Map<String, Field> hbColumnFields = getHBColumnFields0(clazz);
+        HBGeneratedMapper<T> generatedMapper = findGeneratedMapper(clazz);
+        List<WrappedHBColumn> hbColumns = new ArrayList<>(hbColumnFields.size());
         for (Field field : hbColumnFields.values()) {
             WrappedHBColumn hbColumn = new WrappedHBColumn(field);
             if (hbColumn.isPresent()) {
@@ -177,13 +214,36 @@ public class HBObjectMapper {
                 if (!columns.add(new FamilyAndColumn(hbColumn.family(), hbColumn.column()))) {
                     throw new FieldsMappedToSameColumnException(String.format("Class %s has more than one field (e.g. '%s') mapped to same HBase column %s", clazz.getName(), field.getName(), hbColumn));
                 }
-                numOfHBColumns++;
+                hbColumns.add(new WrappedHBColumn(field, generatedMapper));
             }
         }
-        if (numOfHBColumns == 0) {
+        if (hbColumns.isEmpty()) {
             throw new MissingHBColumnFieldsException(clazz);
         }
-        return hbTable;
+        return new WrappedHBEntity<>(clazz, hbTable, hbColumns, generatedMapper);
+    }
+
+    /**
+     * Looks up mapper generated for the entity class at compile time (see {@link HBGeneratedMapper})
+     *
+     * @return Generated mapper, <code>null</code> if there is none (or if it's unusable, in which case reflection is used)
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends HBRecord<?>> HBGeneratedMapper<T> findGeneratedMapper(Class<T> clazz) {
+        Class<?> generatedMapperClass;
+        try {
+            generatedMapperClass = Class.forName(clazz.getName().replace('$', '_') + HBGeneratedMapper.CLASS_NAME_SUFFIX, true, clazz.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+        if (!HBGeneratedMapper.class.isAssignableFrom(generatedMapperClass)) {
+            return null;
+        }
+        try {
+            return (HBGeneratedMapper<T>) generatedMapperClass.newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            return null;
+        }
     }
 
     /**
@@ -244,84 +304,82 @@ public class HBObjectMapper {
         }
     }
 
+    /**
+     * Receives cells of a record as they are serialized (see {@link #convertRecordToCells(HBRecord, WrappedHBEntity, CellSink)})
+     */
+    interface CellSink {
+        void add(byte[] family, byte[] column, long timestamp, byte[] value);
+    }
+
     /**
      * Core method that drives serialization
+     * <p>
+     * Cells are emitted straight from entity's (pre-sorted) columns, in the order HBase sorts them (i.e. by column family, then by column and then by timestamp, latest first), without collecting them in intermediate maps.
      */
-    @SuppressWarnings("unchecked")
-    private <R extends Serializable & Comparable<R>, T extends HBRecord<R>> NavigableMap<byte[], NavigableMap<byte[], NavigableMap<Long, byte[]>>> convertRecordToMap(HBRecord<R> record) {
-        Class<T> clazz = (Class<T>) record.getClass();
-        Collection<Field> fields = getHBColumnFields0(clazz).values();
-        NavigableMap<byte[], NavigableMap<byte[], NavigableMap<Long, byte[]>>> map = new TreeMap<>(Bytes.BYTES_COMPARATOR);
+    <R extends Serializable & Comparable<R>, T extends HBRecord<R>> void convertRecordToCells(HBRecord<R> record, WrappedHBEntity<R, T> entity, CellSink sink) {
         int numOfFieldsToWrite = 0;
-        for (Field field : fields) {
-            WrappedHBColumn hbColumn = new WrappedHBColumn(field);
+        for (WrappedHBColumn hbColumn : entity.getColumns()) {
             if (hbColumn.isSingleVersioned()) {
-                byte[] familyName = hbColumn.familyBytes(), columnName = hbColumn.columnBytes();
-                if (!map.containsKey(familyName)) {
-                    map.put(familyName, new TreeMap<byte[], NavigableMap<Long, byte[]>>(Bytes.BYTES_COMPARATOR));
-                }
-                Map<byte[], NavigableMap<Long, byte[]>> columns = map.get(familyName);
-                final byte[] fieldValueBytes = getFieldValueAsBytes(record, field, hbColumn.codecFlags());
+                final byte[] fieldValueBytes = getFieldValueAsBytes(record, hbColumn);
                 if (fieldValueBytes == null || fieldValueBytes.length == 0) {
                     continue;
                 }
-                NavigableMap<Long, byte[]> singleValue = new TreeMap<>();
-                singleValue.put(HConstants.LATEST_TIMESTAMP, fieldValueBytes);
-                columns.put(columnName, singleValue);
+                sink.add(hbColumn.familyBytes(), hbColumn.columnBytes(), HConstants.LATEST_TIMESTAMP, fieldValueBytes);
                 numOfFieldsToWrite++;
             } else if (hbColumn.isMultiVersioned()) {
-                NavigableMap<Long, byte[]> fieldValueVersions = getFieldValuesAsNavigableMapOfBytes(record, field, hbColumn.codecFlags());
-                if (fieldValueVersions == null)
-                    continue;
-                byte[] familyName = hbColumn.familyBytes(), columnName = hbColumn.columnBytes();
-                if (!map.containsKey(familyName)) {
-                    map.put(familyName, new TreeMap<byte[], NavigableMap<Long, byte[]>>(Bytes.BYTES_COMPARATOR));
+                if (addFieldValueVersions(record, hbColumn, sink)) {
+                    numOfFieldsToWrite++;
                 }
-                Map<byte[], NavigableMap<Long, byte[]>> columns = map.get(familyName);
-                columns.put(columnName, fieldValueVersions);
-                numOfFieldsToWrite++;
             }
         }
         if (numOfFieldsToWrite == 0) {
             throw new AllHBColumnFieldsNullException();
         }
-        return map;
     }
 
-    private <R extends Serializable & Comparable<R>> byte[] getFieldValueAsBytes(HBRecord<R> record, Field field, Map<String, String> codecFlags) {
+    private <R extends Serializable & Comparable<R>> byte[] getFieldValueAsBytes(HBRecord<R> record, WrappedHBColumn hbColumn) {
         Serializable fieldValue;
         try {
-            field.setAccessible(true);
-            fieldValue = (Serializable) field.get(record);
+            fieldValue = (Serializable) hbColumn.accessor().get(record);
         } catch (IllegalAccessException e) {
             throw new BadHBaseLibStateException(e);
         }
-        return valueToByteArray(fieldValue, codecFlags);
+        return valueToByteArray(fieldValue, hbColumn.codecFlags());
     }
 
-    private <R extends Serializable & Comparable<R>> NavigableMap<Long, byte[]> getFieldValuesAsNavigableMapOfBytes(HBRecord<R> record, Field field, Map<String, String> codecFlags) {
+    /**
+     * Serialize versions of a multi-versioned field (latest first)
+     *
+     * @return <code>false</code> if field is <code>null</code>
+     */
+    private <R extends Serializable & Comparable<R>> boolean addFieldValueVersions(HBRecord<R> record, WrappedHBColumn hbColumn, CellSink sink) {
+        NavigableMap<Long, R> fieldValueVersions;
         try {
-            field.setAccessible(true);
             @SuppressWarnings("unchecked")
-            NavigableMap<Long, R> fieldValueVersions = (NavigableMap<Long, R>) field.get(record);
-            if (fieldValueVersions == null)
-                return null;
-            if (fieldValueVersions.size() == 0) {
-                throw new FieldAnnotatedWithHBColumnMultiVersionCantBeEmpty();
-            }
-            NavigableMap<Long, byte[]> output = new TreeMap<>();
-            for (NavigableMap.Entry<Long, R> e : fieldValueVersions.entrySet()) {
-                Long timestamp = e.getKey();
-                R fieldValue = e.getValue();
-                if (fieldValue == null)
-                    continue;
-                byte[] fieldValueBytes = valueToByteArray(fieldValue, codecFlags);
-                output.put(timestamp, fieldValueBytes);
-            }
-            return output;
+            NavigableMap<Long, R> versions = (NavigableMap<Long, R>) hbColumn.accessor().get(record);
+            fieldValueVersions = versions;
         } catch (IllegalAccessException e) {
             throw new BadHBaseLibStateException(e);
         }
+        if (fieldValueVersions == null)
+            return false;
+        if (fieldValueVersions.size() == 0) {
+            throw new FieldAnnotatedWithHBColumnMultiVersionCantBeEmpty();
+        }
+        if (fieldValueVersions.comparator() != null) { // not in natural order of timestamps (copying through TreeMap(SortedMap) would retain the comparator)
+            NavigableMap<Long, R> naturallyOrderedVersions = new TreeMap<>();
+            naturallyOrderedVersions.putAll(fieldValueVersions);
+            fieldValueVersions = naturallyOrderedVersions;
+        }
+        final byte[] family = hbColumn.familyBytes(), column = hbColumn.columnBytes();
+        final Map<String, String> codecFlags = hbColumn.codecFlags();
+        for (NavigableMap.Entry<Long, R> e : fieldValueVersions.descendingMap().entrySet()) {
+            R fieldValue = e.getValue();
+            if (fieldValue == null)
+                continue;
+            sink.add(family, column, e.getKey(), valueToByteArray(fieldValue, codecFlags));
+        }
+        return true;
     }
 
     /**
@@ -335,20 +393,14 @@ public class HBObjectMapper {
      */
     @SuppressWarnings("unchecked")
     public <R extends Serializable & Comparable<R>, T extends HBRecord<R>> Put writeValueAsPut(HBRecord<R> record) {
-        validateHBClass((Class<T>) record.getClass());
-        Put put = new Put(composeRowKey(record));
-        for (NavigableMap.Entry<byte[], NavigableMap<byte[], NavigableMap<Long, byte[]>>> fe : convertRecordToMap(record).entrySet()) {
-            byte[] family = fe.getKey();
-            for (Map.Entry<byte[], NavigableMap<Long, byte[]>> e : fe.getValue().entrySet()) {
-                byte[] columnName = e.getKey();
-                NavigableMap<Long, byte[]> columnValuesVersioned = e.getValue();
-                if (columnValuesVersioned == null)
-                    continue;
-                for (Map.Entry<Long, byte[]> versionAndValue : columnValuesVersioned.entrySet()) {
-                    put.addColumn(family, columnName, versionAndValue.getKey(), versionAndValue.getValue());
-                }
+        WrappedHBEntity<R, T> entity = validateHBClass((Class<T>) record.getClass());
+        final Put put = new Put(composeRowKey(record, entity));
+        convertRecordToCells(record, entity, new CellSink() {
+            @Override
+            public void add(byte[] family, byte[] column, long timestamp, byte[] value) {
+                put.addColumn(family, column, timestamp, value);
             }
-        }
+        });
         return put;
     }
 
@@ -368,6 +420,27 @@ public class HBObjectMapper {
         return puts;
     }
 
+    /**
+     * Builds a {@link Delete} of (all versions of) columns whose fields are <code>null</code> in the given object (this is a counterpart of {@link #writeValueAsPut(HBRecord)}, which skips such fields)
+     *
+     * @return HBase's {@link Delete} object (empty if no field is <code>null</code>)
+     */
+    <R extends Serializable & Comparable<R>, T extends HBRecord<R>> Delete writeNullFieldsAsDelete(HBRecord<R> record, WrappedHBEntity<R, T> entity) {
+        Delete delete = new Delete(composeRowKey(record, entity));
+        for (WrappedHBColumn hbColumn : entity.getColumns()) {
+            Object fieldValue;
+            try {
+                fieldValue = hbColumn.accessor().get(record);
+            } catch (IllegalAccessException e) {
+                throw new BadHBaseLibStateException(e);
+            }
+            if (fieldValue == null) {
+                delete.addColumns(hbColumn.familyBytes(), hbColumn.columnBytes());
+            }
+        }
+        return delete;
+    }
+
     /**
      * <p>Converts an object of your bean-like class to HBase's {@link Result} object.
      * <p>This method is for use in unit-tests of a MapReduce job whose <code>Mapper</code> class extends <code>org.apache.hadoop.hbase.mapreduce.TableMapper</code> class (in other words, a MapReduce job whose input in an HBase table)
@@ -379,21 +452,15 @@ public class HBObjectMapper {
      */
     @SuppressWarnings("unchecked")
     public <R extends Serializable & Comparable<R>, T extends HBRecord<R>> Result writeValueAsResult(HBRecord<R> record) {
-        validateHBClass((Class<T>) record.getClass());
-        byte[] row = composeRowKey(record);
-        List<Cell> cellList = new ArrayList<>();
-        for (NavigableMap.Entry<byte[], NavigableMap<byte[], NavigableMap<Long, byte[]>>> fe : convertRecordToMap(record).entrySet()) {
-            byte[] family = fe.getKey();
-            for (Map.Entry<byte[], NavigableMap<Long, byte[]>> e : fe.getValue().entrySet()) {
-                byte[] columnName = e.getKey();
-                NavigableMap<Long, byte[]> valuesVersioned = e.getValue();
-                if (valuesVersioned == null)
-                    continue;
-                for (Map.Entry<Long, byte[]> columnVersion : valuesVersioned.entrySet()) {
-                    cellList.add(CellUtil.createCell(row, family, columnName, columnVersion.getKey(), KeyValue.Type.Put.getCode(), columnVersion.getValue()));
-                }
+        WrappedHBEntity<R, T> entity = validateHBClass((Class<T>) record.getClass());
+        final byte[] row = composeRowKey(record, entity);
+        final List<Cell> cellList = new ArrayList<>(entity.getColumns().size());
+        convertRecordToCells(record, entity, new CellSink() {
+            @Override
+            public void add(byte[] family, byte[] column, long timestamp, byte[] value) {
+                cellList.add(CellUtil.createCell(row, family, column, timestamp, KeyValue.Type.Put.getCode(), value)); // already in the order HBase sorts cells
             }
-        }
+        });
         return Result.create(cellList);
     }
 
@@ -426,11 +493,11 @@ public class HBObjectMapper {
      * @throws CodecException One or more column values is a <code>byte[]</code> that couldn't be deserialized into field type (as defined in your entity class)
      */
     public <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T readValue(ImmutableBytesWritable rowKey, Result result, Class<T> clazz) {
-        validateHBClass(clazz);
+        WrappedHBEntity<R, T> entity = validateHBClass(clazz);
         if (rowKey == null)
-            return readValueFromResult(result, clazz);
+            return readValueFromResult(result, entity);
         else
-            return readValueFromRowAndResult(rowKey.get(), result, clazz);
+            return readValueFromRowAndResult(rowKey.get(), result, entity);
     }
 
     /**
@@ -444,56 +511,59 @@ public class HBObjectMapper {
      * @throws CodecException One or more column values is a <code>byte[]</code> that couldn't be deserialized into field type (as defined in your entity class)
      */
     public <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T readValue(Result result, Class<T> clazz) {
-        validateHBClass(clazz);
-        return readValueFromResult(result, clazz);
+        return readValueFromResult(result, validateHBClass(clazz));
     }
 
     <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T readValue(R rowKey, Result result, Class<T> clazz) {
+        WrappedHBEntity<R, T> entity = validateHBClass(clazz);
         if (rowKey == null)
-            return readValueFromResult(result, clazz);
+            return readValueFromResult(result, entity);
         else
-            return readValueFromRowAndResult(rowKeyToBytes(rowKey, WrappedHBTable.getCodecFlags(clazz)), result, clazz);
+            return readValueFromRowAndResult(rowKeyToBytes(rowKey, entity.getHBTable().getCodecFlags()), result, entity);
     }
 
     private boolean isResultEmpty(Result result) {
         return result == null || result.isEmpty() || result.getRow() == null || result.getRow().length == 0;
     }
 
-    private <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T readValueFromResult(Result result, Class<T> clazz) {
+    private <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T readValueFromResult(Result result, WrappedHBEntity<R, T> entity) {
         if (isResultEmpty(result)) return null;
-        return convertMapToRecord(result.getRow(), result.getMap(), clazz);
+        return convertCellsToRecord(result.getRow(), result.rawCells(), entity);
     }
 
-    private <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T readValueFromRowAndResult(byte[] rowKeyBytes, Result result, Class<T> clazz) {
+    private <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T readValueFromRowAndResult(byte[] rowKeyBytes, Result result, WrappedHBEntity<R, T> entity) {
         if (isResultEmpty(result)) {
             return null;
         }
-        return convertMapToRecord(rowKeyBytes, result.getMap(), clazz);
+        return convertCellsToRecord(rowKeyBytes, result.rawCells(), entity);
     }
 
-    private void objectSetFieldValue(Object obj, Field field, NavigableMap<Long, byte[]> columnValuesVersioned, Map<String, String> codecFlags) {
-        if (columnValuesVersioned == null)
-            return;
+    /**
+     * Set value of a multi-versioned field from cells <code>cells[fromIndex]</code> to <code>cells[toIndex - 1]</code> (all of the same column, latest version first)
+     */
+    private void objectSetFieldValue(Object obj, WrappedHBColumn hbColumn, Cell[] cells, int fromIndex, int toIndex) {
         try {
-            field.setAccessible(true);
-            NavigableMap<Long, Object> columnValuesVersionedBoxed = new TreeMap<>();
-            for (NavigableMap.Entry<Long, byte[]> versionAndValue : columnValuesVersioned.entrySet()) {
-                columnValuesVersionedBoxed.put(versionAndValue.getKey(), byteArrayToValue(versionAndValue.getValue(), ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[1], codecFlags));
+            final int numVersions = toIndex - fromIndex;
+            long[] timestamps = new long[numVersions];
+            Object[] values = new Object[numVersions];
+            for (int i = 0; i < numVersions; i++) {
+                Cell cell = cells[toIndex - 1 - i]; // oldest version first
+                timestamps[i] = cell.getTimestamp();
+                values[i] = byteArrayToValue(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength(), hbColumn.fieldType(), hbColumn.codecFlags());
             }
-            field.set(obj, columnValuesVersionedBoxed);
+            hbColumn.accessor().set(obj, CompactVersionMap.of(timestamps, values));
         } catch (Exception ex) {
-            throw new ConversionFailedException(String.format("Could not set value on field \"%s\" on instance of class %s", field.getName(), obj.getClass()), ex);
+            throw new ConversionFailedException(String.format("Could not set value on field \"%s\" on instance of class %s", hbColumn.field().getName(), obj.getClass()), ex);
         }
     }
 
-    private void objectSetFieldValue(Object obj, Field field, byte[] value, Map<String, String> codecFlags) {
-        if (value == null || value.length == 0)
+    private void objectSetFieldValue(Object obj, WrappedHBColumn hbColumn, Cell cell) {
+        if (cell.getValueLength() == 0)
             return;
         try {
-            field.setAccessible(true);
-            field.set(obj, byteArrayToValue(value, field.getGenericType(), codecFlags));
+            hbColumn.accessor().set(obj, byteArrayToValue(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength(), hbColumn.fieldType(), hbColumn.codecFlags()));
         } catch (IllegalAccessException e) {
-            throw new ConversionFailedException(String.format("Could not set value on field \"%s\" on instance of class %s", field.getName(), obj.getClass()), e);
+            throw new ConversionFailedException(String.format("Could not set value on field \"%s\" on instance of class %s", hbColumn.field().getName(), obj.getClass()), e);
         }
     }
 
@@ -512,6 +582,20 @@ public class HBObjectMapper {
         }
     }
 
+    /**
+     * Convert a slice of a byte array (e.g. value of a {@link Cell}, within it's backing array) representing HBase column data to appropriate data type (boxed as object)
+     */
+    Object byteArrayToValue(byte[] array, int offset, int length, Type type, Map<String, String> codecFlags) {
+        try {
+            if (array == null || length == 0)
+                return null;
+            else
+                return codec.deserialize(array, offset, length, type, codecFlags);
+        } catch (DeserializationException e) {
+            throw new CodecException("Error while deserializing", e);
+        }
+    }
+
     /**
      * <p>Converts HBase's {@link Put} object to an object of your bean-like class
      * <p>This method is for use in unit-tests of a MapReduce job whose <code>Reducer</code> class extends <code>org.apache.hadoop.hbase.mapreduce.TableReducer</code> class (in other words, a MapReduce job whose output is an HBase table)
@@ -525,11 +609,11 @@ public class HBObjectMapper {
      * @throws CodecException One or more column values is a <code>byte[]</code> that couldn't be deserialized into field type (as defined in your entity class)
      */
     public <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T readValue(ImmutableBytesWritable rowKey, Put put, Class<T> clazz) {
-        validateHBClass(clazz);
+        WrappedHBEntity<R, T> entity = validateHBClass(clazz);
         if (rowKey == null)
-            return readValueFromPut(put, clazz);
+            return readValueFromPut(put, entity);
         else
-            return readValueFromRowAndPut(rowKey.get(), put, clazz);
+            return readValueFromRowAndPut(rowKey.get(), put, entity);
     }
 
 
@@ -545,37 +629,28 @@ public class HBObjectMapper {
      * @throws CodecException One or more column values is a <code>byte[]</code> that couldn't be deserialized into field type (as defined in your entity class)
      */
     <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T readValue(R rowKey, Put put, Class<T> clazz) {
+        WrappedHBEntity<R, T> entity = validateHBClass(clazz);
         if (rowKey == null)
-            return readValueFromPut(put, clazz);
+            return readValueFromPut(put, entity);
         else
-            return readValueFromRowAndPut(rowKeyToBytes(rowKey, WrappedHBTable.getCodecFlags(clazz)), put, clazz);
+            return readValueFromRowAndPut(rowKeyToBytes(rowKey, entity.getHBTable().getCodecFlags()), put, entity);
     }
 
-    private <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T readValueFromRowAndPut(byte[] rowKeyBytes, Put put, Class<T> clazz) {
-        Map<byte[], List<Cell>> rawMap = put.getFamilyCellMap();
-        NavigableMap<byte[], NavigableMap<byte[], NavigableMap<Long, byte[]>>> map = new TreeMap<>(Bytes.BYTES_COMPARATOR);
-        for (Map.Entry<byte[], List<Cell>> familyNameAndColumnValues : rawMap.entrySet()) {
-            byte[] family = familyNameAndColumnValues.getKey();
-            if (!map.containsKey(family)) {
-                map.put(family, new TreeMap<byte[], NavigableMap<Long, byte[]>>(Bytes.BYTES_COMPARATOR));
-            }
-            List<Cell> cellList = familyNameAndColumnValues.getValue();
-            for (Cell cell : cellList) {
-                byte[] column = CellUtil.cloneQualifier(cell);
-                if (!map.get(family).containsKey(column)) {
-                    map.get(family).put(column, new TreeMap<Long, byte[]>());
-                }
-                map.get(family).get(column).put(cell.getTimestamp(), CellUtil.cloneValue(cell));
-            }
+    private <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T readValueFromRowAndPut(byte[] rowKeyBytes, Put put, WrappedHBEntity<R, T> entity) {
+        List<Cell> cellList = new ArrayList<>(put.size());
+        for (List<Cell> familyCells : put.getFamilyCellMap().values()) {
+            cellList.addAll(familyCells);
         }
-        return convertMapToRecord(rowKeyBytes, map, clazz);
+        Cell[] cells = cellList.toArray(new Cell[cellList.size()]);
+        Arrays.sort(cells, KeyValue.COMPARATOR); // unlike Result, cells of a Put are in the order they were added
+        return convertCellsToRecord(rowKeyBytes, cells, entity);
     }
 
-    private <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T readValueFromPut(Put put, Class<T> clazz) {
+    private <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T readValueFromPut(Put put, WrappedHBEntity<R, T> entity) {
         if (put == null || put.isEmpty() || put.getRow() == null || put.getRow().length == 0) {
             return null;
         }
-        return readValueFromRowAndPut(put.getRow(), put, clazz);
+        return readValueFromRowAndPut(put.getRow(), put, entity);
     }
 
     /**
@@ -589,8 +664,7 @@ public class HBObjectMapper {
      * @throws CodecException One or more column values is a <code>byte[]</code> that couldn't be deserialized into field type (as defined in your entity class)
      */
     public <R extends Serializable & Comparable<R>, T extends HBRecord<R>> T readValue(Put put, Class<T> clazz) {
-        validateHBClass(clazz);
-        return readValueFromPut(put, clazz);
+        return readValueFromPut(put, validateHBClass(clazz));
     }
 
     /**
@@ -612,11 +686,11 @@ public class HBObjectMapper {
         if (record == null) {
             throw new NullPointerException("Cannot compose row key for null objects");
         }
-        validateHBClass((Class<T>) record.getClass());
-        return new ImmutableBytesWritable(composeRowKey(record));
+        WrappedHBEntity<R, T> entity = validateHBClass((Class<T>) record.getClass());
+        return new ImmutableBytesWritable(composeRowKey(record, entity));
     }
 
-    private <R extends Serializable & Comparable<R>, T extends HBRecord<R>> byte[] composeRowKey(HBRecord<R> record) {
+    <R extends Serializable & Comparable<R>, T extends HBRecord<R>> byte[] composeRowKey(HBRecord<R> record, WrappedHBEntity<R, T> entity) {
         R rowKey;
         try {
             rowKey = record.composeRowKey();
@@ -626,9 +700,7 @@ public class HBObjectMapper {
         if (rowKey == null || rowKey.toString().isEmpty()) {
             throw new RowKeyCantBeEmptyException();
         }
-        @SuppressWarnings("unchecked")
-        WrappedHBTable<R, T> hbTable = new WrappedHBTable<>((Class<T>) record.getClass());
-        return valueToByteArray(rowKey, hbTable.getCodecFlags());
+        return valueToByteArray(rowKey, entity.getHBTable().getCodecFlags());
     }
 
     /**
@@ -640,8 +712,7 @@ public class HBObjectMapper {
      * @return Map of column families and their max versions
      */
     <R extends Serializable & Comparable<R>, T extends HBRecord<R>> Map<String, Integer> getColumnFamiliesAndVersions(Class<T> clazz) {
-        final WrappedHBTable<R, T> hbTable = validateHBClass(clazz);
-        return hbTable.getFamiliesAndVersions();
+        return validateHBClass(clazz).getHBTable().getFamiliesAndVersions();
     }
 
 
@@ -668,11 +739,10 @@ public class HBObjectMapper {
      * @param clazz Bean-like {@link Class} (must implement {@link HBRecord} interface) whose fields you intend to read
      * @param <R>   Data type of row key
      * @param <T>   Entity type
-     * @return A {@link Map} with keys as field names and values as instances of {@link Field}
+     * @return An unmodifiable {@link Map} with keys as field names and values as instances of {@link Field}
      */
     public <R extends Serializable & Comparable<R>, T extends HBRecord<R>> Map<String, Field> getHBColumnFields(Class<T> clazz) {
-        validateHBClass(clazz);
-        return getHBColumnFields0(clazz);
+        return validateHBClass(clazz).getFields();
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,79 @@
+package com.flipkart.hbaseobjectmapper;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A page of rows (of an HBase table), deserialized as objects of your bean-like class, along with a token to fetch the next page
+ *
+ * @param <T> Entity type that maps to an HBase row (this type must have implemented {@link HBRecord} interface)
+ * @see AbstractHBDAO#page(java.io.Serializable, java.io.Serializable, int, String)
+ */
+public class Page<T extends HBRecord<?>> {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final List<T> records;
+    private final String continuationToken;
+
+    Page(List<T> records, byte[] nextStartRow) {
+        this.records = Collections.unmodifiableList(records);
+        this.continuationToken = nextStartRow == null ? null : toToken(nextStartRow);
+    }
+
+    /**
+     * Get rows of this page
+     *
+     * @return Rows, in order of row keys
+     */
+    public List<T> getRecords() {
+        return records;
+    }
+
+    /**
+     * Get the token to pass to fetch the next page. Callers must treat this as opaque (i.e. shouldn't parse or construct it).
+     *
+     * @return Continuation token, or <code>null</code> if this is the last page
+     */
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    /**
+     * Whether there may be more rows after this page
+     *
+     * @return <code>true</code> if there is a continuation token
+     */
+    public boolean hasMore() {
+        return continuationToken != null;
+    }
+
+    static String toToken(byte[] row) {
+        char[] chars = new char[row.length * 2];
+        for (int i = 0; i < row.length; i++) {
+            chars[2 * i] = HEX_DIGITS[(row[i] >> 4) & 0xf];
+            chars[2 * i + 1] = HEX_DIGITS[row[i] & 0xf];
+        }
+        return new String(chars);
+    }
+
+    static byte[] fromToken(String token) {
+        if (token.isEmpty() || token.length() % 2 != 0) {
+            throw new IllegalArgumentException(String.format("Invalid continuation token: '%s'", token));
+        }
+        byte[] row = new byte[token.length() / 2];
+        for (int i = 0; i < row.length; i++) {
+            int high = Character.digit(token.charAt(2 * i), 16), low = Character.digit(token.charAt(2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new IllegalArgumentException(String.format("Invalid continuation token: '%s'", token));
+            }
+            row[i] = (byte) ((high << 4) | low);
+        }
+        return row;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Page[records=%d, continuationToken=%s]", records.size(), continuationToken);
+    }
+}
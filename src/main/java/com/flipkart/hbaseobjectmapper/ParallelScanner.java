@@ -0,0 +1,230 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.*;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Reads a range of rows by splitting it at region boundaries and scanning the resulting sub-ranges concurrently, on a bounded pool of threads (for internal use only)
+ * <p>
+ * Each sub-scan uses it's own {@link Table} (since those aren't thread-safe) and hands over deserialized records to the reading thread through a bounded queue, so that a slow reader throttles the scanners rather than letting rows pile up in memory.
+ * <p>
+ * When records are required in row key order, each sub-scan gets it's own queue and queues are drained in order of regions (regions don't overlap, so this is an ordered merge). Otherwise, all sub-scans share one queue and records are returned as they arrive.
+ *
+ * @param <T> Entity type
+ */
+class ParallelScanner<T> implements Records.Source<T> {
+
+    /**
+     * Maximum number of records buffered per queue
+     */
+    static final int QUEUE_CAPACITY = 1000;
+
+    private static final Object END_OF_SUB_SCAN = new Object();
+
+    private final Connection connection;
+    private final TableName tableName;
+    private final List<Scan> subScans;
+    private final Records.RecordReader<T> recordReader;
+    private final int parallelism;
+    private final boolean ordered;
+    private ExecutorService executor;
+    private volatile boolean closed;
+
+    ParallelScanner(Connection connection, TableName tableName, List<Scan> subScans, Records.RecordReader<T> recordReader, int parallelism, boolean ordered) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(String.format("Parallelism must be a positive number (passed value: %d)", parallelism));
+        }
+        this.connection = connection;
+        this.tableName = tableName;
+        this.subScans = subScans;
+        this.recordReader = recordReader;
+        this.parallelism = parallelism;
+        this.ordered = ordered;
+    }
+
+    /**
+     * Split a scan at region boundaries
+     *
+     * @param scan            Scan over a range of rows
+     * @param regionStartKeys Start keys of regions of the table (sorted, as returned by {@link RegionLocator#getStartEndKeys()})
+     * @param regionEndKeys   End keys of regions of the table (in same order as start keys)
+     * @return One scan per region that overlaps with range of the given scan, in order of regions
+     * @throws IOException If scan can't be copied
+     */
+    static List<Scan> split(Scan scan, byte[][] regionStartKeys, byte[][] regionEndKeys) throws IOException {
+        final byte[] startRow = scan.getStartRow(), stopRow = scan.getStopRow();
+        List<Scan> subScans = new ArrayList<>(regionStartKeys.length);
+        for (int i = 0; i < regionStartKeys.length; i++) {
+            final byte[] subScanStartRow = greaterStartRow(startRow, regionStartKeys[i]), subScanStopRow = lesserStopRow(stopRow, regionEndKeys[i]);
+            if (subScanStopRow.length > 0 && Bytes.compareTo(subScanStartRow, subScanStopRow) >= 0) {
+                continue; // region doesn't overlap with range of scan
+            }
+            subScans.add(new Scan(scan).setStartRow(subScanStartRow).setStopRow(subScanStopRow));
+        }
+        return subScans;
+    }
+
+    /**
+     * Empty start row means 'from the first row'
+     */
+    private static byte[] greaterStartRow(byte[] a, byte[] b) {
+        return a.length == 0 ? b : b.length == 0 ? a : Bytes.compareTo(a, b) >= 0 ? a : b;
+    }
+
+    /**
+     * Empty stop row means 'till the last row'
+     */
+    private static byte[] lesserStopRow(byte[] a, byte[] b) {
+        return a.length == 0 ? b : b.length == 0 ? a : Bytes.compareTo(a, b) <= 0 ? a : b;
+    }
+
+    @Override
+    public Iterator<T> open() {
+        final List<BlockingQueue<Object>> queues = new ArrayList<>();
+        if (subScans.isEmpty()) {
+            return new QueuesIterator(queues, 0);
+        }
+        executor = Executors.newFixedThreadPool(Math.min(parallelism, subScans.size()), new DaemonThreadFactory("scan", tableName.getNameAsString()));
+        if (ordered) {
+            for (Scan subScan : subScans) {
+                BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+                queues.add(queue);
+                executor.execute(new SubScan(subScan, queue));
+            }
+            return new QueuesIterator(queues, 1);
+        } else {
+            BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+            queues.add(queue);
+            for (Scan subScan : subScans) {
+                executor.execute(new SubScan(subScan, queue));
+            }
+            return new QueuesIterator(queues, subScans.size());
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (executor != null) {
+            executor.shutdownNow(); // interrupts sub-scans waiting on full queues
+        }
+    }
+
+    /**
+     * Failure of a sub-scan, to be rethrown in reading thread
+     */
+    private static class Failure {
+        private final Throwable cause;
+
+        private Failure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
+
+    private class SubScan implements Runnable {
+        private final Scan scan;
+        private final BlockingQueue<Object> queue;
+
+        private SubScan(Scan scan, BlockingQueue<Object> queue) {
+            this.scan = scan;
+            this.queue = queue;
+        }
+
+        @Override
+        public void run() {
+            Object outcome = END_OF_SUB_SCAN;
+            try (Table table = connection.getTable(tableName); ResultScanner scanner = table.getScanner(scan)) {
+                for (Iterator<Result> results = new RowStitchingIterator(scanner.iterator()); !closed && results.hasNext(); ) {
+                    T record = recordReader.read(results.next());
+                    if (record != null) {
+                        queue.put(record);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return; // reader is gone
+            } catch (Throwable t) {
+                outcome = new Failure(t);
+            }
+            try {
+                queue.put(outcome);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Drains queues one after another, moving to next queue after it's expected number of end-markers are seen
+     */
+    private class QueuesIterator implements Iterator<T> {
+        private final List<BlockingQueue<Object>> queues;
+        private final int subScansPerQueue;
+        private int queueIndex = 0, pendingSubScans;
+        private T nextRecord;
+
+        private QueuesIterator(List<BlockingQueue<Object>> queues, int subScansPerQueue) {
+            this.queues = queues;
+            this.subScansPerQueue = subScansPerQueue;
+            this.pendingSubScans = subScansPerQueue;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean hasNext() {
+            while (nextRecord == null) {
+                if (queueIndex == queues.size()) {
+                    return false;
+                }
+                Object item;
+                try {
+                    item = queues.get(queueIndex).take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while waiting for rows from HBase", e);
+                }
+                if (item == END_OF_SUB_SCAN) {
+                    if (--pendingSubScans == 0) {
+                        queueIndex++;
+                        pendingSubScans = subScansPerQueue;
+                    }
+                } else if (item instanceof Failure) {
+                    Throwable cause = ((Failure) item).cause;
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw new RuntimeException("Parallel scan of rows failed", cause);
+                } else {
+                    nextRecord = (T) item;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T record = nextRecord;
+            nextRecord = null;
+            return record;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.flipkart.hbaseobjectmapper;
+
+import java.io.Serializable;
+
+/**
+ * Receives rows of a streaming read (see {@link AbstractHBDAO#get(java.util.List, int, RecordCallback)}), as soon as they arrive from HBase
+ * <p>
+ * <b>Please note:</b> This callback may be invoked concurrently, from threads of HBase client library. Hence, implementations must be thread-safe and shouldn't block for long.
+ *
+ * @param <R> Data type of row key
+ * @param <T> Entity type
+ */
+public interface RecordCallback<R extends Serializable & Comparable<R>, T extends HBRecord<R>> {
+
+    /**
+     * Called once for every (distinct) row key that was requested
+     *
+     * @param rowKey Row key
+     * @param record HBase row, deserialized as object of your bean-like class (<code>null</code> if row doesn't exist)
+     */
+    void onRecord(R rowKey, T record);
+}
@@ -0,0 +1,107 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/**
+ * A lazily-read range of rows (of an HBase table), deserialized as objects of your bean-like class, one row at a time, as they are read from HBase.
+ * <p>
+ * This wraps an HBase {@link ResultScanner}, which holds resources on region servers until it's closed. Hence, always use this in a <code>try</code>-with-resources block:
+ * <pre>
+ * try (Records&lt;Citizen&gt; citizens = citizenDao.records(startRowKey, endRowKey)) {
+ *     for (Citizen citizen : citizens) {
+ *         // process citizen
+ *     }
+ * }
+ * </pre>
+ * The scanner is also closed as soon as the last row is read.
+ * <p>
+ * Rows may also be read by many scanners in parallel (see {@link AbstractHBDAO#records(org.apache.hadoop.hbase.client.Scan, int, boolean)}), in which case closing this stops all of them.
+ * <p>
+ * Please note: Just like the underlying {@link ResultScanner}, this can be iterated only once and isn't thread-safe.
+ *
+ * @param <T> Entity type that maps to an HBase row (this type must have implemented {@link HBRecord} interface)
+ * @see AbstractHBDAO#records(org.apache.hadoop.hbase.client.Scan)
+ */
+public class Records<T extends HBRecord<?>> implements Closeable, Iterable<T> {
+
+    private final SourceIterable<T> records;
+
+    Records(Source<T> source) {
+        this.records = new SourceIterable<>(source, "Records");
+    }
+
+    Records(final ResultScanner scanner, final RecordReader<T> recordReader) {
+        this(new Source<T>() {
+            @Override
+            public Iterator<T> open() {
+                final Iterator<Result> results = new RowStitchingIterator(scanner.iterator());
+                return new Iterator<T>() {
+                    @Override
+                    public boolean hasNext() {
+                        return results.hasNext();
+                    }
+
+                    @Override
+                    public T next() {
+                        return recordReader.read(results.next());
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+
+            @Override
+            public void close() {
+                scanner.close();
+            }
+        });
+    }
+
+    /**
+     * Deserializes a row (for internal use only)
+     */
+    interface RecordReader<T> {
+        T read(Result result);
+    }
+
+    /**
+     * Where records come from, e.g. a single {@link ResultScanner} or scanners running in parallel (for internal use only)
+     */
+    interface Source<T> {
+        /**
+         * Start reading records (called at most once)
+         */
+        Iterator<T> open();
+
+        /**
+         * Release resources held (called exactly once)
+         */
+        void close();
+    }
+
+    /**
+     * Get an iterator over rows of this range. Rows are fetched from HBase (in batches, as per 'caching' set on the scan) only as the iterator advances.
+     *
+     * @return Iterator over rows, deserialized as objects of your bean-like class
+     * @throws IllegalStateException If this method is called more than once or after {@link #close()}
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return records.iterator();
+    }
+
+    /**
+     * Close the underlying scanner(s), releasing their resources on region servers. This method is idempotent.
+     */
+    @Override
+    public void close() {
+        records.close();
+    }
+}
@@ -0,0 +1,72 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+
+import java.io.Closeable;
+import java.io.Serializable;
+import java.util.Iterator;
+
+/**
+ * A lazily-read range of row keys (of an HBase table), deserialized to row key type of your bean-like class, one at a time, as they are read from HBase.
+ * <p>
+ * Just like {@link Records}, this wraps an HBase {@link ResultScanner} and hence must be closed after use (the scanner is also closed as soon as the last row key is read). It can be iterated only once and isn't thread-safe.
+ *
+ * @param <R> Data type of row key
+ * @see AbstractHBDAO#keys(Serializable, Serializable)
+ */
+public class RowKeys<R extends Serializable & Comparable<R>> implements Closeable, Iterable<R> {
+
+    private final SourceIterable<R> rowKeys;
+
+    <T extends HBRecord<R>> RowKeys(final ResultScanner scanner, final HBObjectMapper hbObjectMapper, final WrappedHBEntity<R, T> entity) {
+        this.rowKeys = new SourceIterable<>(new Records.Source<R>() {
+            @Override
+            public Iterator<R> open() {
+                final Iterator<Result> results = scanner.iterator();
+                return new Iterator<R>() {
+                    @Override
+                    public boolean hasNext() {
+                        return results.hasNext();
+                    }
+
+                    @Override
+                    public R next() {
+                        Cell cell = results.next().rawCells()[0];
+                        return hbObjectMapper.bytesToRowKey(cell.getRowArray(), cell.getRowOffset(), cell.getRowLength(), entity);
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+
+            @Override
+            public void close() {
+                scanner.close();
+            }
+        }, "Row keys");
+    }
+
+    /**
+     * Get an iterator over row keys of this range. Row keys are fetched from HBase only as the iterator advances.
+     *
+     * @return Iterator over row keys
+     * @throws IllegalStateException If this method is called more than once or after {@link #close()}
+     */
+    @Override
+    public Iterator<R> iterator() {
+        return rowKeys.iterator();
+    }
+
+    /**
+     * Close the underlying scanner, releasing it's resources on region servers. This method is idempotent.
+     */
+    @Override
+    public void close() {
+        rowKeys.close();
+    }
+}
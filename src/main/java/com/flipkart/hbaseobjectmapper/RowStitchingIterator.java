@@ -0,0 +1,63 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Iterates over {@link Result}s of a scan such that each {@link Result} holds an entire row (for internal use only)
+ * <p>
+ * When a scan has batching (see {@link org.apache.hadoop.hbase.client.Scan#setBatch(int)}) or partial results enabled, cells of a row may be split across consecutive {@link Result}s. This merges such consecutive {@link Result}s back into one (cells of later ones sort after cells of earlier ones, so merged cells remain sorted).
+ */
+class RowStitchingIterator implements Iterator<Result> {
+
+    private final Iterator<Result> results;
+    private Result lookahead;
+
+    RowStitchingIterator(Iterator<Result> results) {
+        this.results = results;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return lookahead != null || results.hasNext();
+    }
+
+    @Override
+    public Result next() {
+        Result first = lookahead != null ? lookahead : results.next();
+        lookahead = null;
+        if (first.isEmpty()) {
+            return first;
+        }
+        List<Cell> cells = null;
+        while (results.hasNext()) {
+            Result result = results.next();
+            if (result.isEmpty() || !isSameRow(first, result)) {
+                lookahead = result;
+                break;
+            }
+            if (cells == null) {
+                cells = new ArrayList<>(first.size() + result.size());
+                Collections.addAll(cells, first.rawCells());
+            }
+            Collections.addAll(cells, result.rawCells());
+        }
+        return cells == null ? first : Result.create(cells);
+    }
+
+    private static boolean isSameRow(Result r1, Result r2) {
+        Cell c1 = r1.rawCells()[0], c2 = r2.rawCells()[0];
+        return Bytes.equals(c1.getRowArray(), c1.getRowOffset(), c1.getRowLength(), c2.getRowArray(), c2.getRowOffset(), c2.getRowLength());
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,159 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.client.IsolationLevel;
+import org.apache.hadoop.hbase.client.Scan;
+
+/**
+ * Tuning of HBase {@link Scan}s that {@link AbstractHBDAO} creates for range reads
+ * <p>
+ * Options can be set for a DAO (see {@link AbstractHBDAO#setScanOptions(ScanOptions)}) and can be overridden for a call (see, for example, {@link AbstractHBDAO#records(java.io.Serializable, java.io.Serializable, int, ScanOptions)}). An option that's not set is inherited (from DAO's options, for a call) or is left to HBase's default.
+ * <p>
+ * Typical tunings:
+ * <ul>
+ * <li>Full-table scans (e.g. backfills): large caching, a max result size and <code>cacheBlocks(false)</code> (so that the scan doesn't evict frequently read blocks from block cache)</li>
+ * <li>Short range reads (e.g. a few rows): <code>small(true)</code></li>
+ * <li>Very wide rows: a batch size (rows split across multiple results are stitched back into one object)</li>
+ * </ul>
+ * Objects of this class are immutable: every <code>with</code> method returns a new object.
+ */
+public class ScanOptions {
+
+    private final Integer caching;
+    private final Integer batch;
+    private final Long maxResultSize;
+    private final Boolean cacheBlocks;
+    private final Boolean small;
+    private final IsolationLevel isolationLevel;
+
+    /**
+     * Options with nothing set (i.e. HBase defaults)
+     */
+    public ScanOptions() {
+        this(null, null, null, null, null, null);
+    }
+
+    private ScanOptions(Integer caching, Integer batch, Long maxResultSize, Boolean cacheBlocks, Boolean small, IsolationLevel isolationLevel) {
+        this.caching = caching;
+        this.batch = batch;
+        this.maxResultSize = maxResultSize;
+        this.cacheBlocks = cacheBlocks;
+        this.small = small;
+        this.isolationLevel = isolationLevel;
+    }
+
+    /**
+     * Number of rows to fetch per RPC (see {@link Scan#setCaching(int)})
+     *
+     * @param caching Number of rows
+     * @return New options object, with this option set
+     */
+    public ScanOptions withCaching(int caching) {
+        if (caching <= 0) {
+            throw new IllegalArgumentException(String.format("Caching must be a positive number (passed value: %d)", caching));
+        }
+        return new ScanOptions(caching, batch, maxResultSize, cacheBlocks, small, isolationLevel);
+    }
+
+    /**
+     * Maximum number of cells per {@link org.apache.hadoop.hbase.client.Result} (see {@link Scan#setBatch(int)}). Rows split this way are stitched back together before they are deserialized.
+     *
+     * @param batch Number of cells
+     * @return New options object, with this option set
+     */
+    public ScanOptions withBatch(int batch) {
+        if (batch <= 0) {
+            throw new IllegalArgumentException(String.format("Batch must be a positive number (passed value: %d)", batch));
+        }
+        return new ScanOptions(caching, batch, maxResultSize, cacheBlocks, small, isolationLevel);
+    }
+
+    /**
+     * Maximum size (in bytes) of data to fetch per RPC (see {@link Scan#setMaxResultSize(long)})
+     *
+     * @param maxResultSize Size in bytes
+     * @return New options object, with this option set
+     */
+    public ScanOptions withMaxResultSize(long maxResultSize) {
+        if (maxResultSize <= 0) {
+            throw new IllegalArgumentException(String.format("Max result size must be a positive number (passed value: %d)", maxResultSize));
+        }
+        return new ScanOptions(caching, batch, maxResultSize, cacheBlocks, small, isolationLevel);
+    }
+
+    /**
+     * Whether blocks read by the scan should be cached on region servers (see {@link Scan#setCacheBlocks(boolean)}). Set this to <code>false</code> for full scans.
+     *
+     * @param cacheBlocks Whether to cache blocks
+     * @return New options object, with this option set
+     */
+    public ScanOptions withCacheBlocks(boolean cacheBlocks) {
+        return new ScanOptions(caching, batch, maxResultSize, cacheBlocks, small, isolationLevel);
+    }
+
+    /**
+     * Whether the scan is 'small', i.e. is expected to read data within a single block (see {@link Scan#setSmall(boolean)})
+     *
+     * @param small Whether scan is small
+     * @return New options object, with this option set
+     */
+    public ScanOptions withSmall(boolean small) {
+        return new ScanOptions(caching, batch, maxResultSize, cacheBlocks, small, isolationLevel);
+    }
+
+    /**
+     * Isolation level of the scan (see {@link Scan#setIsolationLevel(IsolationLevel)})
+     *
+     * @param isolationLevel Isolation level
+     * @return New options object, with this option set
+     */
+    public ScanOptions withIsolationLevel(IsolationLevel isolationLevel) {
+        return new ScanOptions(caching, batch, maxResultSize, cacheBlocks, small, isolationLevel);
+    }
+
+    /**
+     * Options that are set in <code>overrides</code> take precedence over options set in this object
+     */
+    ScanOptions overriddenBy(ScanOptions overrides) {
+        if (overrides == null) {
+            return this;
+        }
+        return new ScanOptions(
+                overrides.caching != null ? overrides.caching : caching,
+                overrides.batch != null ? overrides.batch : batch,
+                overrides.maxResultSize != null ? overrides.maxResultSize : maxResultSize,
+                overrides.cacheBlocks != null ? overrides.cacheBlocks : cacheBlocks,
+                overrides.small != null ? overrides.small : small,
+                overrides.isolationLevel != null ? overrides.isolationLevel : isolationLevel
+        );
+    }
+
+    /**
+     * Set options (that are set in this object) on a scan
+     */
+    Scan applyTo(Scan scan) {
+        if (caching != null) {
+            scan.setCaching(caching);
+        }
+        if (batch != null) {
+            scan.setBatch(batch);
+        }
+        if (maxResultSize != null) {
+            scan.setMaxResultSize(maxResultSize);
+        }
+        if (cacheBlocks != null) {
+            scan.setCacheBlocks(cacheBlocks);
+        }
+        if (small != null) {
+            scan.setSmall(small);
+        }
+        if (isolationLevel != null) {
+            scan.setIsolationLevel(isolationLevel);
+        }
+        return scan;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ScanOptions[caching=%s, batch=%s, maxResultSize=%s, cacheBlocks=%s, small=%s, isolationLevel=%s]", caching, batch, maxResultSize, cacheBlocks, small, isolationLevel);
+    }
+}
@@ -0,0 +1,68 @@
+package com.flipkart.hbaseobjectmapper;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates (once) over elements of a {@link Records.Source}, closing it as soon as it's exhausted (for internal use only)
+ *
+ * @param <E> Type of element
+ */
+final class SourceIterable<E> {
+
+    private final Records.Source<E> source;
+    private final String description;
+    private boolean iterated, closed;
+
+    /**
+     * @param description Description of elements, for error messages (e.g. "Records")
+     */
+    SourceIterable(Records.Source<E> source, String description) {
+        this.source = source;
+        this.description = description;
+    }
+
+    Iterator<E> iterator() {
+        if (closed) {
+            throw new IllegalStateException(String.format("%s can't be iterated after they are closed", description));
+        }
+        if (iterated) {
+            throw new IllegalStateException(String.format("%s can be iterated only once", description));
+        }
+        iterated = true;
+        final Iterator<E> elements = source.open();
+        return new Iterator<E>() {
+            @Override
+            public boolean hasNext() {
+                if (closed) {
+                    return false;
+                }
+                if (elements.hasNext()) {
+                    return true;
+                }
+                close();
+                return false;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return elements.next();
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    void close() {
+        if (!closed) {
+            closed = true;
+            source.close();
+        }
+    }
+}
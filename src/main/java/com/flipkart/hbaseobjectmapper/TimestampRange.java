@@ -0,0 +1,100 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Scan;
+
+import java.io.IOException;
+
+/**
+ * A range of timestamps (versions) to restrict reads to, e.g. to read what a row looked like at some point in the past
+ * <p>
+ * The restriction is applied on region servers (see {@link Get#setTimeRange(long, long)} and {@link Scan#setTimeRange(long, long)}), so versions outside the range are never transferred. Combined with number of versions to fetch, it reads the latest versions within the range. For example,
+ * <pre>
+ * Citizen citizenYesterday = citizenDao.get(rowKey, 1, TimestampRange.asOf(yesterday));
+ * </pre>
+ * reads, for every column, the latest version that was written till <code>yesterday</code> (inclusive).
+ * <p>
+ * Objects of this class are immutable.
+ */
+public class TimestampRange {
+
+    private final long min, max;
+
+    private TimestampRange(long min, long max) {
+        if (min < 0) {
+            throw new IllegalArgumentException(String.format("Timestamp can't be negative (passed value: %d)", min));
+        }
+        if (max <= min) {
+            throw new IllegalArgumentException(String.format("Upper bound of timestamp range must be greater than it's lower bound (passed values: %d, %d)", min, max));
+        }
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Timestamps in range <code>[min, max)</code>
+     *
+     * @param min Lower bound (inclusive)
+     * @param max Upper bound (exclusive)
+     * @return Timestamp range
+     */
+    public static TimestampRange between(long min, long max) {
+        return new TimestampRange(min, max);
+    }
+
+    /**
+     * Timestamps till given timestamp (inclusive), i.e. versions that were visible 'as of' that time
+     *
+     * @param timestamp Timestamp (e.g. milliseconds since epoch, if versions are HBase-assigned)
+     * @return Timestamp range
+     */
+    public static TimestampRange asOf(long timestamp) {
+        return new TimestampRange(0, timestamp == Long.MAX_VALUE ? Long.MAX_VALUE : timestamp + 1);
+    }
+
+    /**
+     * Exactly the given timestamp
+     *
+     * @param timestamp Timestamp
+     * @return Timestamp range
+     */
+    public static TimestampRange at(long timestamp) {
+        if (timestamp == Long.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format("Timestamp must be less than %d", Long.MAX_VALUE));
+        }
+        return new TimestampRange(timestamp, timestamp + 1);
+    }
+
+    /**
+     * @return Lower bound (inclusive)
+     */
+    public long getMin() {
+        return min;
+    }
+
+    /**
+     * @return Upper bound (exclusive)
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Restrict a get to this range
+     */
+    Get applyTo(Get get) throws IOException {
+        return max == min + 1 ? get.setTimeStamp(min) : get.setTimeRange(min, max);
+    }
+
+    /**
+     * Restrict a scan to this range
+     */
+    Scan applyTo(Scan scan) throws IOException {
+        return max == min + 1 ? scan.setTimeStamp(min) : scan.setTimeRange(min, max);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TimestampRange[%d, %d)", min, max);
+    }
+}
@@ -7,6 +7,8 @@ import com.flipkart.hbaseobjectmapper.exceptions.FieldNotMappedToHBaseColumnExce
 import org.apache.hadoop.hbase.util.Bytes;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -16,17 +18,34 @@ import java.util.Map;
  */
 class WrappedHBColumn {
     private final String family, column;
+    private final byte[] familyBytes, columnBytes;
     private final boolean multiVersioned, singleVersioned;
     private final Class annotationClass;
     private final Map<String, String> codecFlags;
     private final Field field;
+    private final Type fieldType;
+    private final FieldAccessor accessor;
 
     WrappedHBColumn(Field field) {
         this(field, false);
     }
 
-    @SuppressWarnings("unchecked")
     WrappedHBColumn(Field field, boolean throwExceptionIfNonHBColumn) {
+        this(field, throwExceptionIfNonHBColumn, false, null);
+    }
+
+    /**
+     * Wraps a field that's mapped to an HBase column, along with an accessor for it
+     *
+     * @param field           Field mapped to an HBase column
+     * @param generatedMapper Mapper generated for the entity class, if any (this is preferred for accessing the field, if it covers the field)
+     */
+    WrappedHBColumn(Field field, HBGeneratedMapper<?> generatedMapper) {
+        this(field, true, true, generatedMapper);
+    }
+
+    @SuppressWarnings("unchecked")
+    private WrappedHBColumn(Field field, boolean throwExceptionIfNonHBColumn, boolean resolveAccessor, HBGeneratedMapper<?> generatedMapper) {
         this.field = field;
         HBColumn hbColumn = field.getAnnotation(HBColumn.class);
         HBColumnMultiVersion hbColumnMultiVersion = field.getAnnotation(HBColumnMultiVersion.class);
@@ -58,6 +77,27 @@ class WrappedHBColumn {
             annotationClass = null;
             codecFlags = null;
         }
+        familyBytes = family == null ? null : Bytes.toBytes(family);
+        columnBytes = column == null ? null : Bytes.toBytes(column);
+        fieldType = resolveFieldType(field, multiVersioned);
+        accessor = resolveAccessor ? FieldAccessor.of(field, generatedMapper) : null;
+    }
+
+    /**
+     * Resolves the type a column value deserializes to (for a multi-versioned column, this is the value type of the {@link java.util.NavigableMap NavigableMap})
+     */
+    private static Type resolveFieldType(Field field, boolean multiVersioned) {
+        Type genericType = field.getGenericType();
+        if (!multiVersioned) {
+            return genericType;
+        }
+        if (genericType instanceof ParameterizedType) {
+            Type[] typeArguments = ((ParameterizedType) genericType).getActualTypeArguments();
+            if (typeArguments.length == 2) {
+                return typeArguments[1];
+            }
+        }
+        return null;
     }
 
     private Map<String, String> toMap(Flag[] codecFlags) {
@@ -76,7 +116,7 @@ class WrappedHBColumn {
     }
 
     public byte[] familyBytes() {
-        return Bytes.toBytes(family);
+        return familyBytes;
     }
 
     public String column() {
@@ -84,13 +124,28 @@ class WrappedHBColumn {
     }
 
     public byte[] columnBytes() {
-        return Bytes.toBytes(column);
+        return columnBytes;
     }
 
     public Map<String, String> codecFlags() {
         return codecFlags;
     }
 
+    public Field field() {
+        return field;
+    }
+
+    public Type fieldType() {
+        return fieldType;
+    }
+
+    /**
+     * Accessor to read and write value of the field (available only on columns of a validated entity class)
+     */
+    FieldAccessor accessor() {
+        return accessor;
+    }
+
     public boolean isPresent() {
         return singleVersioned || multiVersioned;
     }
@@ -0,0 +1,140 @@
+package com.flipkart.hbaseobjectmapper;
+
+import com.flipkart.hbaseobjectmapper.exceptions.InternalError;
+import com.flipkart.hbaseobjectmapper.exceptions.ObjectNotInstantiatableException;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.*;
+
+/**
+ * Validated mapping metadata of an entity class, i.e. its {@link WrappedHBTable} along with its {@link WrappedHBColumn}s (for internal use only)
+ * <p>
+ * Objects of this class are immutable and are built once per entity class (see {@link HBObjectMapper#validateHBClass(Class)}).
+ *
+ * @param <R> Data type of row key
+ * @param <T> Entity type
+ */
+class WrappedHBEntity<R extends Serializable & Comparable<R>, T extends HBRecord<R>> {
+
+    private static final Comparator<WrappedHBColumn> COLUMN_ORDER = new Comparator<WrappedHBColumn>() {
+        @Override
+        public int compare(WrappedHBColumn c1, WrappedHBColumn c2) {
+            int familyComparison = Bytes.compareTo(c1.familyBytes(), c2.familyBytes());
+            return familyComparison != 0 ? familyComparison : Bytes.compareTo(c1.columnBytes(), c2.columnBytes());
+        }
+    };
+
+    private final Class<T> clazz;
+    private final WrappedHBTable<R, T> hbTable;
+    private final Class<R> rowKeyType;
+    private final List<WrappedHBColumn> columns;
+    private final Map<String, WrappedHBColumn> columnsByFieldName;
+    private final Map<String, Field> fields;
+    private final HBGeneratedMapper<T> generatedMapper;
+    private final MethodHandle constructor;
+
+    @SuppressWarnings("unchecked")
+    WrappedHBEntity(Class<T> clazz, WrappedHBTable<R, T> hbTable, Collection<WrappedHBColumn> columns, HBGeneratedMapper<T> generatedMapper) {
+        this.clazz = clazz;
+        this.hbTable = hbTable;
+        this.generatedMapper = generatedMapper;
+        this.constructor = generatedMapper == null ? resolveConstructor(clazz) : null;
+        try {
+            this.rowKeyType = (Class<R>) clazz.getMethod("composeRowKey").getReturnType();
+        } catch (NoSuchMethodException e) {
+            throw new InternalError(e);
+        }
+        List<WrappedHBColumn> sortedColumns = new ArrayList<>(columns);
+        Collections.sort(sortedColumns, COLUMN_ORDER);
+        this.columns = Collections.unmodifiableList(sortedColumns);
+        Map<String, WrappedHBColumn> columnsByFieldName = new HashMap<>(sortedColumns.size(), 1.0f);
+        Map<String, Field> fields = new HashMap<>(sortedColumns.size(), 1.0f);
+        for (WrappedHBColumn hbColumn : sortedColumns) {
+            columnsByFieldName.put(hbColumn.field().getName(), hbColumn);
+            fields.put(hbColumn.field().getName(), hbColumn.field());
+        }
+        this.columnsByFieldName = Collections.unmodifiableMap(columnsByFieldName);
+        this.fields = Collections.unmodifiableMap(fields);
+    }
+
+    Class<T> getClazz() {
+        return clazz;
+    }
+
+    WrappedHBTable<R, T> getHBTable() {
+        return hbTable;
+    }
+
+    /**
+     * Data type of row key, as resolved from return type of {@link HBRecord#composeRowKey()}
+     */
+    Class<R> getRowKeyType() {
+        return rowKeyType;
+    }
+
+    /**
+     * Columns mapped in the entity class, in the order HBase sorts them (i.e. by column family and then by column)
+     */
+    List<WrappedHBColumn> getColumns() {
+        return columns;
+    }
+
+    Map<String, Field> getFields() {
+        return fields;
+    }
+
+    /**
+     * @return Column mapped to the given field, <code>null</code> if there is no such field
+     */
+    WrappedHBColumn getColumn(String fieldName) {
+        return columnsByFieldName.get(fieldName);
+    }
+
+    /**
+     * Resolves a handle to the empty constructor of the entity class, typed to return an {@link Object}
+     *
+     * @return Handle to constructor, <code>null</code> if it can't be resolved (in which case {@link Class#newInstance()} is used)
+     */
+    private static MethodHandle resolveConstructor(Class<?> clazz) {
+        try {
+            Constructor<?> emptyConstructor = clazz.getDeclaredConstructor();
+            emptyConstructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(emptyConstructor).asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Create a new (empty) object of the entity class, through it's generated mapper if there is one or else through a handle to it's empty constructor
+     *
+     * @throws ObjectNotInstantiatableException If the constructor fails
+     */
+    @SuppressWarnings("unchecked")
+    T newRecord() {
+        try {
+            if (generatedMapper != null) {
+                return generatedMapper.newRecord();
+            } else if (constructor != null) {
+                return (T) (Object) constructor.invokeExact();
+            } else {
+                return clazz.newInstance();
+            }
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new ObjectNotInstantiatableException("Error while instantiating empty constructor of " + clazz.getName(), t);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return clazz.getName();
+    }
+}
@@ -3,6 +3,7 @@ package com.flipkart.hbaseobjectmapper;
 import com.flipkart.hbaseobjectmapper.exceptions.DuplicateCodecFlagForRowKeyException;
 import com.flipkart.hbaseobjectmapper.exceptions.ImproperHBTableAnnotationExceptions;
 import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.util.Bytes;
 
 import java.io.Serializable;
 import java.util.HashMap;
@@ -18,6 +19,7 @@ class WrappedHBTable<R extends Serializable & Comparable<R>, T extends HBRecord<
 
     private final TableName tableName;
     private final Map<String, Integer> families; // This should evolve to Map<String, FamilyDetails>
+    private final byte[][] familiesBytes;
     private final Map<String, String> codecFlags;
     private final Class<T> clazz;
 
@@ -45,6 +47,10 @@ class WrappedHBTable<R extends Serializable & Comparable<R>, T extends HBRecord<
                 throw new ImproperHBTableAnnotationExceptions.DuplicateColumnFamilyNamesOnHBTableAnnotationException(String.format("The %s annotation on class %s has two or more column families with same name '%s' (Note: column family names must be unique)", HBTable.class.getSimpleName(), clazz.getName(), family.name()));
             }
         }
+        familiesBytes = new byte[hbTable.families().length][];
+        for (int i = 0; i < familiesBytes.length; i++) {
+            familiesBytes[i] = Bytes.toBytes(hbTable.families()[i].name());
+        }
     }
 
     private Map<String, String> toMap(Flag[] codecFlags) {
@@ -62,6 +68,13 @@ class WrappedHBTable<R extends Serializable & Comparable<R>, T extends HBRecord<
         return families;
     }
 
+    /**
+     * Names of column families (as bytes), in the order they are declared in {@link HBTable} annotation. Callers must not modify the returned array.
+     */
+    byte[][] getFamiliesBytes() {
+        return familiesBytes;
+    }
+
     boolean isColumnFamilyPresent(String familyName) {
         return families.containsKey(familyName);
     }
@@ -0,0 +1,22 @@
+package com.flipkart.hbaseobjectmapper;
+
+import java.io.Serializable;
+
+/**
+ * Receives writes that failed (after HBase client's retries were exhausted) in a {@link BufferedRecordWriter}
+ * <p>
+ * <b>Please note:</b> Writes fail asynchronously (i.e. when buffer is flushed, which may happen in a later call or on a background thread). Hence, implementations must be thread-safe.
+ *
+ * @param <R> Data type of row key
+ */
+public interface WriteFailureListener<R extends Serializable & Comparable<R>> {
+
+    /**
+     * Called once for every write (persist or delete) that failed
+     *
+     * @param rowKey           Row key of the record that couldn't be written
+     * @param cause            Cause of failure
+     * @param regionServerName Host and port of region server that the write was sent to (may be <code>null</code>)
+     */
+    void onFailure(R rowKey, Throwable cause, String regionServerName);
+}
@@ -1,22 +1,23 @@
 package com.flipkart.hbaseobjectmapper.codec;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flipkart.hbaseobjectmapper.Flag;
 import com.flipkart.hbaseobjectmapper.codec.exceptions.DeserializationException;
 import com.flipkart.hbaseobjectmapper.codec.exceptions.SerializationException;
-import com.flipkart.hbaseobjectmapper.exceptions.BadHBaseLibStateException;
-import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import org.apache.hadoop.hbase.util.Bytes;
 
+import java.io.OutputStream;
 import java.io.Serializable;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * This is an implementation of {@link Codec} that:
@@ -31,58 +32,21 @@ import java.util.Map;
  * <li><b><code>{@link #SERIALIZE_AS_STRING}</code></b>: When this flag is "true", this codec stores field/rowkey values in it's string representation (e.g. <b>560034</b> is serialized into a <code>byte[]</code> that represents the string <b>"560034"</b>). This flag applies only to fields or rowkeys of data types in point 1 above.</li>
  * </ul>
  * <p>
- * This is the default codec for {@link com.flipkart.hbaseobjectmapper.HBObjectMapper HBObjectMapper}.
+ * This is the default codec for {@link com.flipkart.hbaseobjectmapper.HBObjectMapper HBObjectMapper}. It implements {@link ByteRangeCodec} natively (i.e. ranges of <code>byte[]</code> are deserialized without being copied).
  */
 
-public class BestSuitCodec implements Codec {
+public class BestSuitCodec implements ByteRangeCodec {
     public static final String SERIALIZE_AS_STRING = "serializeAsString";
 
-    private static final Map<Class, String> fromBytesMethodNames = ImmutableMap.<Class, String>builder()
-            .put(Boolean.class, "toBoolean")
-            .put(Short.class, "toShort")
-            .put(Integer.class, "toInt")
-            .put(Long.class, "toLong")
-            .put(Float.class, "toFloat")
-            .put(Double.class, "toDouble")
-            .put(String.class, "toString")
-            .put(BigDecimal.class, "toBigDecimal")
-            .build();
-
-    private static final Map<Class, Class> nativeCounterParts = ImmutableMap.<Class, Class>builder()
-            .put(Boolean.class, boolean.class)
-            .put(Short.class, short.class)
-            .put(Long.class, long.class)
-            .put(Integer.class, int.class)
-            .put(Float.class, float.class)
-            .put(Double.class, double.class)
-            .build();
-
-    private static final Map<Class, Method> fromBytesMethods, toBytesMethods;
-    private static final Map<Class, Constructor> constructors;
-
-    static {
-        try {
-            fromBytesMethods = new HashMap<>(fromBytesMethodNames.size());
-            toBytesMethods = new HashMap<>(fromBytesMethodNames.size());
-            constructors = new HashMap<>(fromBytesMethodNames.size());
-            for (Map.Entry<Class, String> e : fromBytesMethodNames.entrySet()) {
-                Class<?> clazz = e.getKey();
-                String toDataTypeMethodName = e.getValue();
-                Method fromBytesMethod = Bytes.class.getDeclaredMethod(toDataTypeMethodName, byte[].class);
-                Method toBytesMethod = Bytes.class.getDeclaredMethod("toBytes", nativeCounterParts.containsKey(clazz) ? nativeCounterParts.get(clazz) : clazz);
-                Constructor<?> constructor = clazz.getConstructor(String.class);
-                fromBytesMethods.put(clazz, fromBytesMethod);
-                toBytesMethods.put(clazz, toBytesMethod);
-                constructors.put(clazz, constructor);
-            }
-        } catch (Exception ex) {
-            throw new BadHBaseLibStateException(ex);
-        }
-    }
-
+    private static final Set<Class<?>> nativeTypes = ImmutableSet.<Class<?>>of(Boolean.class, Short.class, Integer.class, Long.class, Float.class, Double.class, String.class, BigDecimal.class);
 
     private final ObjectMapper objectMapper;
 
+    /**
+     * Jackson's resolution of field types (resolved once per type)
+     */
+    private final ConcurrentMap<Type, JavaType> javaTypes = new ConcurrentHashMap<>();
+
     /**
      * Construct an object of class {@link BestSuitCodec} with custom instance of Jackson's Object Mapper
      *
@@ -113,15 +77,9 @@ public class BestSuitCodec implements Codec {
     public byte[] serialize(Serializable object, Map<String, String> flags) throws SerializationException {
         if (object == null)
             return null;
-        Class clazz = object.getClass();
-        if (toBytesMethods.containsKey(clazz)) {
-            boolean serializeAsString = isSerializeAsStringTrue(flags);
-            try {
-                Method toBytesMethod = toBytesMethods.get(clazz);
-                return serializeAsString ? Bytes.toBytes(String.valueOf(object)) : (byte[]) toBytesMethod.invoke(null, object);
-            } catch (Exception e) {
-                throw new SerializationException(String.format("Could not serialize value of type %s using HBase's native methods", clazz.getName()), e);
-            }
+        Class<?> clazz = object.getClass();
+        if (nativeTypes.contains(clazz)) {
+            return toBytes(object, isSerializeAsStringTrue(flags));
         } else {
             try {
                 return objectMapper.writeValueAsBytes(object);
@@ -131,6 +89,28 @@ public class BestSuitCodec implements Codec {
         }
     }
 
+    /*
+     * @inherit
+     */
+    @Override
+    public boolean serialize(Serializable object, Map<String, String> flags, OutputStream outputStream) throws SerializationException {
+        if (object == null)
+            return false;
+        Class<?> clazz = object.getClass();
+        try {
+            if (nativeTypes.contains(clazz)) {
+                outputStream.write(toBytes(object, isSerializeAsStringTrue(flags)));
+            } else {
+                objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(outputStream, object); // stream belongs to caller, hence not closed
+            }
+        } catch (SerializationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SerializationException(String.format("Could not serialize value of type %s to stream", clazz.getName()), e);
+        }
+        return true;
+    }
+
     /*
      * @inherit
      */
@@ -138,31 +118,31 @@ public class BestSuitCodec implements Codec {
     public Serializable deserialize(byte[] bytes, Type type, Map<String, String> flags) throws DeserializationException {
         if (bytes == null)
             return null;
-        if (type instanceof Class && fromBytesMethods.containsKey(type)) {
-            boolean serializeAsString = isSerializeAsStringTrue(flags);
+        return deserialize(bytes, 0, bytes.length, type, flags);
+    }
+
+    /*
+     * @inherit
+     */
+    @Override
+    public Serializable deserialize(byte[] array, int offset, int length, Type type, Map<String, String> flags) throws DeserializationException {
+        if (array == null)
+            return null;
+        if (type instanceof Class && nativeTypes.contains(type)) {
             try {
-                Serializable value;
-                if (serializeAsString) {
-                    Constructor constructor = constructors.get(type);
-                    value = (Serializable) constructor.newInstance(Bytes.toString(bytes));
-                } else {
-                    Method method = fromBytesMethods.get(type);
-                    value = (Serializable) method.invoke(null, new Object[]{bytes});
-                }
-                return value;
+                return isSerializeAsStringTrue(flags) ? fromString((Class<?>) type, Bytes.toString(array, offset, length)) : fromBytes((Class<?>) type, array, offset, length);
             } catch (Exception e) {
                 throw new DeserializationException("Could not deserialize byte array into an object using HBase's native methods", e);
             }
         } else {
             JavaType javaType = null;
             try {
-                javaType = objectMapper.constructType(type);
-                return objectMapper.readValue(bytes, javaType);
+                javaType = toJavaType(type);
+                return objectMapper.readValue(array, offset, length, javaType);
             } catch (Exception e) {
                 throw new DeserializationException(String.format("Could not deserialize JSON into an object of type %s using Jackson%n(Jackson resolved type = %s)", type, javaType), e);
             }
         }
-
     }
 
     /*
@@ -170,10 +150,100 @@ public class BestSuitCodec implements Codec {
      */
     @Override
     public boolean canDeserialize(Type type) {
-        JavaType javaType = objectMapper.constructType(type);
+        JavaType javaType = toJavaType(type);
         return objectMapper.canDeserialize(javaType);
     }
 
+    private JavaType toJavaType(Type type) {
+        JavaType javaType = javaTypes.get(type);
+        if (javaType == null) {
+            javaType = objectMapper.constructType(type);
+            javaTypes.putIfAbsent(type, javaType);
+        }
+        return javaType;
+    }
+
+    private static byte[] toBytes(Object object, boolean serializeAsString) {
+        if (serializeAsString) {
+            return Bytes.toBytes(String.valueOf(object));
+        }
+        Class<?> clazz = object.getClass();
+        if (clazz == String.class) {
+            return Bytes.toBytes((String) object);
+        } else if (clazz == Integer.class) {
+            return Bytes.toBytes((Integer) object);
+        } else if (clazz == Long.class) {
+            return Bytes.toBytes((Long) object);
+        } else if (clazz == Short.class) {
+            return Bytes.toBytes((Short) object);
+        } else if (clazz == Double.class) {
+            return Bytes.toBytes((Double) object);
+        } else if (clazz == Float.class) {
+            return Bytes.toBytes((Float) object);
+        } else if (clazz == Boolean.class) {
+            return Bytes.toBytes((Boolean) object);
+        } else {
+            return Bytes.toBytes((BigDecimal) object);
+        }
+    }
+
+    /**
+     * Counterpart of {@link #toBytes(Object, boolean)}, reading a range of a <code>byte[]</code> (with same leniency as HBase's methods that read a whole <code>byte[]</code>, e.g. {@link Bytes#toLong(byte[])} reads first 8 bytes)
+     */
+    private static Serializable fromBytes(Class<?> clazz, byte[] array, int offset, int length) {
+        if (clazz == String.class) {
+            return Bytes.toString(array, offset, length);
+        } else if (clazz == Integer.class) {
+            checkLength(length, Bytes.SIZEOF_INT);
+            return Bytes.toInt(array, offset, Bytes.SIZEOF_INT);
+        } else if (clazz == Long.class) {
+            checkLength(length, Bytes.SIZEOF_LONG);
+            return Bytes.toLong(array, offset, Bytes.SIZEOF_LONG);
+        } else if (clazz == Short.class) {
+            checkLength(length, Bytes.SIZEOF_SHORT);
+            return Bytes.toShort(array, offset, Bytes.SIZEOF_SHORT);
+        } else if (clazz == Double.class) {
+            checkLength(length, Bytes.SIZEOF_DOUBLE);
+            return Bytes.toDouble(array, offset);
+        } else if (clazz == Float.class) {
+            checkLength(length, Bytes.SIZEOF_FLOAT);
+            return Bytes.toFloat(array, offset);
+        } else if (clazz == Boolean.class) {
+            if (length != Bytes.SIZEOF_BOOLEAN) {
+                throw new IllegalArgumentException("Array has wrong size: " + length);
+            }
+            return array[offset] != (byte) 0;
+        } else {
+            return Bytes.toBigDecimal(array, offset, length);
+        }
+    }
+
+    private static void checkLength(int length, int expectedLength) {
+        if (length < expectedLength) {
+            throw new IllegalArgumentException(String.format("Expected at least %d bytes, but found %d", expectedLength, length));
+        }
+    }
+
+    private static Serializable fromString(Class<?> clazz, String value) {
+        if (clazz == String.class) {
+            return value;
+        } else if (clazz == Integer.class) {
+            return Integer.valueOf(value);
+        } else if (clazz == Long.class) {
+            return Long.valueOf(value);
+        } else if (clazz == Short.class) {
+            return Short.valueOf(value);
+        } else if (clazz == Double.class) {
+            return Double.valueOf(value);
+        } else if (clazz == Float.class) {
+            return Float.valueOf(value);
+        } else if (clazz == Boolean.class) {
+            return Boolean.valueOf(value);
+        } else {
+            return new BigDecimal(value);
+        }
+    }
+
     private static boolean isSerializeAsStringTrue(Map<String, String> flags) {
         return flags != null && flags.get(SERIALIZE_AS_STRING) != null && flags.get(SERIALIZE_AS_STRING).equalsIgnoreCase("true");
     }
@@ -0,0 +1,42 @@
+package com.flipkart.hbaseobjectmapper.codec;
+
+import com.flipkart.hbaseobjectmapper.codec.exceptions.DeserializationException;
+import com.flipkart.hbaseobjectmapper.codec.exceptions.SerializationException;
+
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * <p>A {@link Codec} that can deserialize a range of a <code>byte[]</code> (e.g. value of an HBase cell, within it's backing array) and serialize into an {@link OutputStream}, so that callers don't have to copy bytes into (or out of) standalone arrays.
+ * <p>{@link com.flipkart.hbaseobjectmapper.HBObjectMapper HBObjectMapper} uses these methods when it's codec implements this interface. Codecs that implement just {@link Codec} continue to work as they are (see {@link ByteRangeCodecAdapter}).
+ */
+public interface ByteRangeCodec extends Codec {
+
+    /**
+     * Deserialize a range of <code>byte[]</code> into an object
+     *
+     * @param array  byte array that contains the bytes that need to be deserialized (this must not be modified)
+     * @param offset Offset of the bytes within <code>array</code>
+     * @param length Number of bytes
+     * @param type   Java type to which the bytes need to be deserialized to
+     * @param flags  Flags for tuning deserialization behavior (Implementations of this method are expected to handle <code>null</code> and <code>empty map</code> in the same way)
+     * @return The object (same as what {@link #deserialize(byte[], Type, Map)} would return for a copy of the range)
+     * @throws DeserializationException If deserialization fails
+     * @see #deserialize(byte[], Type, Map)
+     */
+    Serializable deserialize(byte[] array, int offset, int length, Type type, Map<String, String> flags) throws DeserializationException;
+
+    /**
+     * Serializes object into an {@link OutputStream}
+     *
+     * @param object       Object to be serialized
+     * @param flags        Flags for tuning serialization behavior (Implementations of this method are expected to handle <code>null</code> and <code>empty map</code> in the same way)
+     * @param outputStream Stream to which serialized bytes are to be written (same bytes as what {@link #serialize(Serializable, Map)} would return)
+     * @return <code>false</code> if there was nothing to write (i.e. {@link #serialize(Serializable, Map)} would return <code>null</code>), <code>true</code> otherwise
+     * @throws SerializationException If serialization fails (including failure to write to the stream)
+     * @see #serialize(Serializable, Map)
+     */
+    boolean serialize(Serializable object, Map<String, String> flags, OutputStream outputStream) throws SerializationException;
+}
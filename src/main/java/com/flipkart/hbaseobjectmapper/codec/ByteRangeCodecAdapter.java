@@ -0,0 +1,99 @@
+package com.flipkart.hbaseobjectmapper.codec;
+
+import com.flipkart.hbaseobjectmapper.codec.exceptions.DeserializationException;
+import com.flipkart.hbaseobjectmapper.codec.exceptions.SerializationException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Adapts a {@link Codec} to {@link ByteRangeCodec} interface, by copying ranges of <code>byte[]</code> into standalone arrays (and vice-versa)
+ */
+public class ByteRangeCodecAdapter implements ByteRangeCodec {
+    private final Codec codec;
+
+    private ByteRangeCodecAdapter(Codec codec) {
+        this.codec = codec;
+    }
+
+    /**
+     * Get a {@link ByteRangeCodec} for given {@link Codec}
+     *
+     * @param codec Codec
+     * @return The codec itself (if it implements {@link ByteRangeCodec} consistently) or an adapter for it
+     */
+    public static ByteRangeCodec of(Codec codec) {
+        return codec instanceof ByteRangeCodec && isConsistent(codec.getClass()) ? (ByteRangeCodec) codec : new ByteRangeCodecAdapter(codec);
+    }
+
+    /**
+     * A subclass of a {@link ByteRangeCodec} (e.g. of {@link BestSuitCodec}) that customizes {@link Codec}'s methods, but not their {@link ByteRangeCodec} counterparts, isn't consistent (it's customizations would be bypassed if it were used as a {@link ByteRangeCodec})
+     */
+    private static boolean isConsistent(Class<?> codecClass) {
+        try {
+            return !isOverriddenBelow(codecClass.getMethod("deserialize", byte[].class, Type.class, Map.class), codecClass.getMethod("deserialize", byte[].class, int.class, int.class, Type.class, Map.class))
+                    && !isOverriddenBelow(codecClass.getMethod("serialize", Serializable.class, Map.class), codecClass.getMethod("serialize", Serializable.class, Map.class, OutputStream.class));
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static boolean isOverriddenBelow(Method method, Method counterpart) {
+        Class<?> declaringClass = method.getDeclaringClass(), counterpartDeclaringClass = counterpart.getDeclaringClass();
+        return declaringClass != counterpartDeclaringClass && counterpartDeclaringClass.isAssignableFrom(declaringClass);
+    }
+
+    /*
+     * @inherit
+     */
+    @Override
+    public Serializable deserialize(byte[] array, int offset, int length, Type type, Map<String, String> flags) throws DeserializationException {
+        return codec.deserialize(offset == 0 && length == array.length ? array : Arrays.copyOfRange(array, offset, offset + length), type, flags);
+    }
+
+    /*
+     * @inherit
+     */
+    @Override
+    public boolean serialize(Serializable object, Map<String, String> flags, OutputStream outputStream) throws SerializationException {
+        byte[] bytes = codec.serialize(object, flags);
+        if (bytes == null) {
+            return false;
+        }
+        try {
+            outputStream.write(bytes);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write serialized bytes to stream", e);
+        }
+        return true;
+    }
+
+    /*
+     * @inherit
+     */
+    @Override
+    public byte[] serialize(Serializable object, Map<String, String> flags) throws SerializationException {
+        return codec.serialize(object, flags);
+    }
+
+    /*
+     * @inherit
+     */
+    @Override
+    public Serializable deserialize(byte[] bytes, Type type, Map<String, String> flags) throws DeserializationException {
+        return codec.deserialize(bytes, type, flags);
+    }
+
+    /*
+     * @inherit
+     */
+    @Override
+    public boolean canDeserialize(Type type) {
+        return codec.canDeserialize(type);
+    }
+}
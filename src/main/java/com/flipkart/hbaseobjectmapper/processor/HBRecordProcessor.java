@@ -0,0 +1,366 @@
+package com.flipkart.hbaseobjectmapper.processor;
+
+import com.flipkart.hbaseobjectmapper.*;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.*;
+
+/**
+ * <p>An <b>optional</b> annotation processor that, for every entity class annotated with {@link HBTable}:<ul>
+ * <li>validates it's annotations at compile time (errors that {@link HBObjectMapper} would otherwise throw at runtime, e.g. two fields mapped to same column, are reported as compilation errors)</li>
+ * <li>generates a mapper class (named <code>&lt;entity class&gt;_HBMapper</code>, in the same package) that instantiates the entity class and accesses it's fields without reflection (see {@link HBGeneratedMapper})</li>
+ * </ul>
+ * <p>This processor isn't registered for automatic discovery. To enable it, pass <code>-processor com.flipkart.hbaseobjectmapper.processor.HBRecordProcessor</code> to <code>javac</code> (or list it under <code>annotationProcessors</code> of <code>maven-compiler-plugin</code>).
+ * <p>A field is accessed directly if it's visible to the generated mapper (i.e. it isn't <code>private</code>), or else through it's getter and setter (e.g. <code>getName()</code> and <code>setName(String)</code>). Fields that can't be accessed either way are left to {@link HBObjectMapper}'s reflection-based access.
+ */
+@SupportedAnnotationTypes("com.flipkart.hbaseobjectmapper.HBTable")
+public class HBRecordProcessor extends AbstractProcessor {
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement entity : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(HBTable.class))) {
+            if (entity.getKind() != ElementKind.CLASS) {
+                continue;
+            }
+            List<MappedField> mappedFields = validate(entity);
+            if (mappedFields != null && isGeneratable(entity)) {
+                generate(entity, mappedFields);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Validates the entity class (in sync with validations in {@link HBObjectMapper})
+     *
+     * @return Fields mapped to HBase columns, <code>null</code> if validation failed
+     */
+    private List<MappedField> validate(TypeElement entity) {
+        boolean isValid = validateHBTable(entity);
+        isValid &= validateConstructor(entity);
+        boolean hasRowKey = false;
+        for (VariableElement field : ElementFilter.fieldsIn(entity.getEnclosedElements())) {
+            if (field.getAnnotation(HBRowKey.class) != null) {
+                hasRowKey = true;
+            }
+        }
+        if (!hasRowKey) {
+            error(entity, "Class %s doesn't even have a single field annotated with %s (how else would you construct the row key for HBase record?)", entity.getQualifiedName(), HBRowKey.class.getName());
+            isValid = false;
+        }
+        Set<String> families = new HashSet<>();
+        for (Family family : entity.getAnnotation(HBTable.class).families()) {
+            families.add(family.name());
+        }
+        Set<String> columns = new HashSet<>();
+        List<MappedField> mappedFields = new ArrayList<>();
+        for (VariableElement field : getHBColumnFields(entity).values()) {
+            MappedField mappedField = new MappedField(field);
+            isValid &= validateHBColumnField(entity, mappedField);
+            if (!families.contains(mappedField.family)) {
+                error(field, "Class %s has field '%s' mapped to HBase column '%s:%s' - but column family '%s' isn't configured in @%s annotation",
+                        entity.getQualifiedName(), field.getSimpleName(), mappedField.family, mappedField.column, mappedField.family, HBTable.class.getSimpleName());
+                isValid = false;
+            }
+            if (!columns.add(mappedField.family + ":" + mappedField.column)) {
+                error(field, "Class %s has more than one field (e.g. '%s') mapped to same HBase column %s:%s", entity.getQualifiedName(), field.getSimpleName(), mappedField.family, mappedField.column);
+                isValid = false;
+            }
+            mappedFields.add(mappedField);
+        }
+        if (mappedFields.isEmpty()) {
+            error(entity, "Class %s doesn't even have a single field annotated with @%s or @%s", entity.getQualifiedName(), HBColumn.class.getSimpleName(), HBColumnMultiVersion.class.getSimpleName());
+            isValid = false;
+        }
+        return isValid ? mappedFields : null;
+    }
+
+    private boolean validateHBTable(TypeElement entity) {
+        HBTable hbTable = entity.getAnnotation(HBTable.class);
+        boolean isValid = true;
+        if (hbTable.name().isEmpty()) {
+            error(entity, "Annotation %s on class %s has empty name", HBTable.class.getName(), entity.getQualifiedName());
+            isValid = false;
+        }
+        Set<String> flagNames = new HashSet<>();
+        for (Flag flag : hbTable.rowKeyCodecFlags()) {
+            if (!flagNames.add(flag.name())) {
+                error(entity, "The %s annotation on %s class has duplicate codec flags. See codec flag '%s'.", HBTable.class.getSimpleName(), entity.getQualifiedName(), flag.name());
+                isValid = false;
+            }
+        }
+        Set<String> familyNames = new HashSet<>();
+        for (Family family : hbTable.families()) {
+            if (family.name().isEmpty()) {
+                error(entity, "The %s annotation on class %s has a column family with empty name", HBTable.class.getSimpleName(), entity.getQualifiedName());
+                isValid = false;
+            } else if (family.versions() < 1) {
+                error(entity, "The %s annotation on class %s has a column family '%s' which has 'versions' less than 1", HBTable.class.getSimpleName(), entity.getQualifiedName(), family.name());
+                isValid = false;
+            } else if (!familyNames.add(family.name())) {
+                error(entity, "The %s annotation on class %s has two or more column families with same name '%s' (Note: column family names must be unique)", HBTable.class.getSimpleName(), entity.getQualifiedName(), family.name());
+                isValid = false;
+            }
+        }
+        return isValid;
+    }
+
+    private boolean validateConstructor(TypeElement entity) {
+        boolean isInnerClass = entity.getNestingKind() == NestingKind.MEMBER && !entity.getModifiers().contains(Modifier.STATIC);
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(entity.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !isInnerClass) {
+                if (!constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                    error(entity, "Empty constructor of class %s is inaccessible. It needs to be public.", entity.getQualifiedName());
+                    return false;
+                }
+                return true;
+            }
+        }
+        error(entity, "Class %s needs to specify an empty (public) constructor", entity.getQualifiedName());
+        return false;
+    }
+
+    /**
+     * Fields mapped to HBase columns, including those inherited from classes annotated with {@link MappedSuperClass} (in sync with {@link HBObjectMapper#getHBColumnFields(Class)})
+     */
+    private Map<String, VariableElement> getHBColumnFields(TypeElement entity) {
+        Map<String, VariableElement> mappings = new LinkedHashMap<>();
+        TypeElement thisClass = entity;
+        while (thisClass != null) {
+            for (VariableElement field : ElementFilter.fieldsIn(thisClass.getEnclosedElements())) {
+                if (field.getAnnotation(HBColumn.class) != null || field.getAnnotation(HBColumnMultiVersion.class) != null) {
+                    mappings.put(field.getSimpleName().toString(), field);
+                }
+            }
+            TypeMirror parentClass = thisClass.getSuperclass();
+            thisClass = parentClass.getKind() == TypeKind.DECLARED && ((DeclaredType) parentClass).asElement().getAnnotation(MappedSuperClass.class) != null
+                    ? (TypeElement) ((DeclaredType) parentClass).asElement() : null;
+        }
+        return mappings;
+    }
+
+    private boolean validateHBColumnField(TypeElement entity, MappedField mappedField) {
+        VariableElement field = mappedField.field;
+        String declaringClass = ((TypeElement) field.getEnclosingElement()).getQualifiedName().toString();
+        String annotationName = mappedField.multiVersioned ? HBColumnMultiVersion.class.getName() : HBColumn.class.getName();
+        boolean isValid = true;
+        if (field.getAnnotation(HBColumn.class) != null && field.getAnnotation(HBColumnMultiVersion.class) != null) {
+            error(field, "Class %s has a field %s that's annotated with both @%s and @%s (you can use only one of them on a field)", declaringClass, field.getSimpleName(), HBColumn.class.getName(), HBColumnMultiVersion.class.getName());
+            return false;
+        }
+        Set<String> flagNames = new HashSet<>();
+        for (Flag flag : mappedField.codecFlags) {
+            if (!flagNames.add(flag.name())) {
+                error(field, "The @%s annotation on field %s on class %s has duplicate codec flags (See flag %s)", annotationName, field.getSimpleName(), declaringClass, flag.name());
+                isValid = false;
+            }
+        }
+        if (field.getModifiers().contains(Modifier.TRANSIENT)) {
+            error(field, "In class \"%s\", the field \"%s\" is annotated with \"%s\", but is declared as transient (Transient fields cannot be persisted)", declaringClass, field.getSimpleName(), annotationName);
+            isValid = false;
+        }
+        if (field.getModifiers().contains(Modifier.STATIC)) {
+            error(field, "In class \"%s\", the field \"%s\" is annotated with \"%s\", but is declared as static (Only instance fields can be mapped to HBase columns)", declaringClass, field.getSimpleName(), annotationName);
+            isValid = false;
+        }
+        TypeMirror fieldType = field.asType();
+        if (mappedField.multiVersioned) {
+            String problem = null;
+            if (fieldType.getKind() != TypeKind.DECLARED || ((DeclaredType) fieldType).getTypeArguments().isEmpty()) {
+                problem = "is not even a parameterized type";
+            } else if (!isClass(fieldType, NavigableMap.class)) {
+                problem = "is not a NavigableMap";
+            } else {
+                List<? extends TypeMirror> typeArguments = ((DeclaredType) fieldType).getTypeArguments();
+                if (typeArguments.size() != 2 || !isClass(typeArguments.get(0), Long.class)) {
+                    problem = String.format("has unexpected type params (Key should be of %s type)", Long.class.getName());
+                }
+            }
+            if (problem != null) {
+                error(field, "A field annotated with @%s should be of type %s<%s, ?> (Field %s in class %s %s)", HBColumnMultiVersion.class.getName(), NavigableMap.class.getName(), Long.class.getName(), field.getSimpleName(), entity.getQualifiedName(), problem);
+                isValid = false;
+            }
+        } else if (fieldType.getKind().isPrimitive()) {
+            error(field, "Field %s in class %s is a primitive of type %s (Primitive data types are not supported as they're not nullable)", field.getSimpleName(), declaringClass, fieldType);
+            isValid = false;
+        }
+        return isValid;
+    }
+
+    private boolean isClass(TypeMirror type, Class<?> clazz) {
+        Types types = processingEnv.getTypeUtils();
+        return types.isSameType(types.erasure(type), types.erasure(processingEnv.getElementUtils().getTypeElement(clazz.getCanonicalName()).asType()));
+    }
+
+    /**
+     * Whether the generated mapper would be able to instantiate the entity class
+     */
+    private boolean isGeneratable(TypeElement entity) {
+        if (entity.getModifiers().contains(Modifier.ABSTRACT) || !entity.getTypeParameters().isEmpty()) {
+            note(entity, "Skipped generating mapper for %s, since it's either abstract or generic", entity.getQualifiedName());
+            return false;
+        }
+        for (Element element = entity; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                note(entity, "Skipped generating mapper for %s, since it's not accessible from it's package", entity.getQualifiedName());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement entity, List<MappedField> mappedFields) {
+        Elements elements = processingEnv.getElementUtils();
+        Types types = processingEnv.getTypeUtils();
+        PackageElement entityPackage = elements.getPackageOf(entity);
+        String packageName = entityPackage.getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(entity).toString();
+        String mapperSimpleName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1).replace('$', '_') + HBGeneratedMapper.CLASS_NAME_SUFFIX;
+        String entityName = entity.getQualifiedName().toString();
+        List<MappedField> accessibleFields = new ArrayList<>(mappedFields.size());
+        for (MappedField mappedField : mappedFields) {
+            if (mappedField.resolveAccess(entity, entityPackage, elements, types)) {
+                accessibleFields.add(mappedField);
+            } else {
+                note(mappedField.field, "Field %s of %s is neither accessible nor has a getter and setter (it'll be accessed through reflection)", mappedField.field.getSimpleName(), entityName);
+            }
+        }
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(packageName.isEmpty() ? mapperSimpleName : packageName + "." + mapperSimpleName, entity);
+            try (PrintWriter out = new PrintWriter(sourceFile.openWriter())) {
+                if (!packageName.isEmpty()) {
+                    out.printf("package %s;%n%n", packageName);
+                }
+                out.printf("/**%n * Mapper for {@link %s}, generated by {@link %s}. Do not edit.%n */%n", entityName, HBRecordProcessor.class.getName());
+                out.printf("public final class %s implements %s<%s> {%n%n", mapperSimpleName, HBGeneratedMapper.class.getName(), entityName);
+                out.printf("    private static final String[] FIELD_NAMES = {");
+                for (int i = 0; i < accessibleFields.size(); i++) {
+                    out.printf("%s\"%s\"", i == 0 ? "" : ", ", accessibleFields.get(i).field.getSimpleName());
+                }
+                out.printf("};%n%n");
+                out.printf("    @Override%n    public String[] fieldNames() {%n        return FIELD_NAMES.clone();%n    }%n%n");
+                out.printf("    @Override%n    public %s newRecord() {%n        return new %s();%n    }%n%n", entityName, entityName);
+                out.printf("    @Override%n    public Object getFieldValue(%s record, int fieldIndex) {%n        switch (fieldIndex) {%n", entityName);
+                for (int i = 0; i < accessibleFields.size(); i++) {
+                    out.printf("            case %d:%n                return %s;%n", i, accessibleFields.get(i).readExpression("record"));
+                }
+                out.printf("            default:%n                throw new IndexOutOfBoundsException(String.valueOf(fieldIndex));%n        }%n    }%n%n");
+                out.printf("    @Override%n    @SuppressWarnings(\"unchecked\")%n    public void setFieldValue(%s record, int fieldIndex, Object value) {%n        switch (fieldIndex) {%n", entityName);
+                for (int i = 0; i < accessibleFields.size(); i++) {
+                    out.printf("            case %d:%n                %s;%n                break;%n", i, accessibleFields.get(i).writeStatement("record", "value"));
+                }
+                out.printf("            default:%n                throw new IndexOutOfBoundsException(String.valueOf(fieldIndex));%n        }%n    }%n}%n");
+            }
+        } catch (IOException e) {
+            error(entity, "Couldn't generate mapper for %s: %s", entityName, e.getMessage());
+        }
+    }
+
+    private void error(Element element, String format, Object... args) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(format, args), element);
+    }
+
+    private void note(Element element, String format, Object... args) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, String.format(format, args), element);
+    }
+
+    /**
+     * A field mapped to an HBase column, along with how the generated mapper reads and writes it
+     */
+    private static class MappedField {
+        private final VariableElement field;
+        private final String family, column;
+        private final Flag[] codecFlags;
+        private final boolean multiVersioned;
+        private String getterName, setterName, castType;
+
+        MappedField(VariableElement field) {
+            this.field = field;
+            HBColumn hbColumn = field.getAnnotation(HBColumn.class);
+            HBColumnMultiVersion hbColumnMultiVersion = field.getAnnotation(HBColumnMultiVersion.class);
+            if (hbColumn != null) {
+                family = hbColumn.family();
+                column = hbColumn.column();
+                codecFlags = hbColumn.codecFlags();
+                multiVersioned = false;
+            } else {
+                family = hbColumnMultiVersion.family();
+                column = hbColumnMultiVersion.column();
+                codecFlags = hbColumnMultiVersion.codecFlags();
+                multiVersioned = true;
+            }
+        }
+
+        /**
+         * Resolves how the field can be read and written from a class in entity's package
+         *
+         * @return <code>false</code> if it can't be
+         */
+        boolean resolveAccess(TypeElement entity, PackageElement entityPackage, Elements elements, Types types) {
+            TypeMirror fieldType = field.asType();
+            castType = types.erasure(fieldType).toString();
+            boolean isFieldAccessible = isAccessible(field, entityPackage, elements);
+            String capitalizedName = capitalize(field.getSimpleName().toString());
+            getterName = isFieldAccessible ? null : findMethod(entity, "get" + capitalizedName, fieldType, false, entityPackage, elements, types);
+            setterName = isFieldAccessible && !field.getModifiers().contains(Modifier.FINAL) ? null : findMethod(entity, "set" + capitalizedName, fieldType, true, entityPackage, elements, types);
+            return (isFieldAccessible || getterName != null) && ((isFieldAccessible && !field.getModifiers().contains(Modifier.FINAL)) || setterName != null);
+        }
+
+        String readExpression(String record) {
+            return getterName != null ? String.format("%s.%s()", record, getterName) : String.format("%s.%s", record, field.getSimpleName());
+        }
+
+        String writeStatement(String record, String value) {
+            return setterName != null ? String.format("%s.%s((%s) %s)", record, setterName, castType, value) : String.format("%s.%s = (%s) %s", record, field.getSimpleName(), castType, value);
+        }
+
+        /**
+         * @return Name of the getter (or setter) method for given field type, <code>null</code> if there is no such method that's accessible
+         */
+        private static String findMethod(TypeElement entity, String name, TypeMirror fieldType, boolean isSetter, PackageElement entityPackage, Elements elements, Types types) {
+            for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(entity))) {
+                if (!method.getSimpleName().contentEquals(name) || method.getModifiers().contains(Modifier.STATIC) || !isAccessible(method, entityPackage, elements)) {
+                    continue;
+                }
+                List<? extends VariableElement> parameters = method.getParameters();
+                if (isSetter ? parameters.size() == 1 && types.isSameType(parameters.get(0).asType(), fieldType) : parameters.isEmpty() && types.isSameType(method.getReturnType(), fieldType)) {
+                    return name;
+                }
+            }
+            return null;
+        }
+
+        private static boolean isAccessible(Element member, PackageElement entityPackage, Elements elements) {
+            Set<Modifier> modifiers = member.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            Element declaringClass = member.getEnclosingElement();
+            boolean isSamePackage = elements.getPackageOf(member).equals(entityPackage);
+            return isSamePackage || (modifiers.contains(Modifier.PUBLIC) && declaringClass.getModifiers().contains(Modifier.PUBLIC));
+        }
+
+        private static String capitalize(String name) {
+            return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        }
+    }
+}
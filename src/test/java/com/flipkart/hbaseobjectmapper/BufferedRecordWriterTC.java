@@ -0,0 +1,16 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.client.Connection;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * Factory for {@link BufferedRecordWriter} class. To be used in test cases only.
+ */
+public class BufferedRecordWriterTC {
+    public static <R extends Serializable & Comparable<R>, T extends HBRecord<R>> BufferedRecordWriter<R, T> of(Connection connection, HBObjectMapper hbObjectMapper, Class<T> clazz, long writeBufferSize, long flushIntervalMillis, WriteFailureListener<R> listener) throws IOException {
+        WrappedHBEntity<R, T> hbEntity = hbObjectMapper.validateHBClass(clazz);
+        return new BufferedRecordWriter<>(connection, hbObjectMapper, hbEntity, new ChangeTracker<>(hbObjectMapper, hbEntity), writeBufferSize, flushIntervalMillis, listener);
+    }
+}
@@ -0,0 +1,38 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+
+import java.io.Serializable;
+
+/**
+ * Wrapper for {@link ChangeTracker} class. To be used in test cases only.
+ */
+public class ChangeTrackerTC<R extends Serializable & Comparable<R>, T extends HBRecord<R>> {
+    private final HBObjectMapper hbObjectMapper;
+    private final WrappedHBEntity<R, T> hbEntity;
+    private final ChangeTracker<R, T> changeTracker;
+
+    public ChangeTrackerTC(HBObjectMapper hbObjectMapper, Class<T> clazz) {
+        this.hbObjectMapper = hbObjectMapper;
+        hbEntity = hbObjectMapper.validateHBClass(clazz);
+        changeTracker = new ChangeTracker<>(hbObjectMapper, hbEntity);
+    }
+
+    public void track(T record, Result result) {
+        changeTracker.track(record, result);
+    }
+
+    public void invalidate(R rowKey) {
+        changeTracker.invalidate(hbObjectMapper.rowKeyToBytes(rowKey, hbEntity.getHBTable().getCodecFlags()));
+    }
+
+    /**
+     * Compute changes in record, as if they are written successfully
+     */
+    public Put persist(T record) {
+        ChangeTracker.Changes changes = changeTracker.changes(record);
+        changeTracker.persisted(record, changes);
+        return changes.put;
+    }
+}
@@ -0,0 +1,12 @@
+package com.flipkart.hbaseobjectmapper;
+
+import java.util.NavigableMap;
+
+/**
+ * Factory for {@link CompactVersionMap} class. To be used in test cases only.
+ */
+public class CompactVersionMapTC {
+    public static <V> NavigableMap<Long, V> of(long[] timestamps, Object[] values) {
+        return CompactVersionMap.of(timestamps, values);
+    }
+}
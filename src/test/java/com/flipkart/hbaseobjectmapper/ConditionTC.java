@@ -0,0 +1,14 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.filter.Filter;
+
+import java.io.Serializable;
+
+/**
+ * Translates {@link Condition}s without a DAO. To be used in test cases only.
+ */
+public class ConditionTC {
+    public static <R extends Serializable & Comparable<R>, T extends HBRecord<R>> Filter toFilter(Condition condition, HBObjectMapper hbObjectMapper, Class<T> clazz) {
+        return condition.toFilter(hbObjectMapper, hbObjectMapper.validateHBClass(clazz));
+    }
+}
@@ -0,0 +1,48 @@
+package com.flipkart.hbaseobjectmapper;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+
+/**
+ * Wrapper for {@link FieldAccessor} class. To be used in test cases only.
+ */
+public class FieldAccessorTC {
+    private final FieldAccessor fieldAccessor;
+
+    private FieldAccessorTC(FieldAccessor fieldAccessor) {
+        this.fieldAccessor = fieldAccessor;
+    }
+
+    /**
+     * Accessor the library resolves for the field
+     */
+    public static FieldAccessorTC of(Field field) {
+        return new FieldAccessorTC(FieldAccessor.of(field));
+    }
+
+    /**
+     * Accessor the library uses for a field of a (valid) entity class
+     */
+    public static <R extends Serializable & Comparable<R>, T extends HBRecord<R>> FieldAccessorTC of(HBObjectMapper hbObjectMapper, Class<T> clazz, String fieldName) {
+        return new FieldAccessorTC(hbObjectMapper.validateHBClass(clazz).getColumn(fieldName).accessor());
+    }
+
+    /**
+     * Accessor based on plain reflection (i.e. what the library used before accessors were introduced)
+     */
+    public static FieldAccessorTC reflective(Field field) {
+        return new FieldAccessorTC(new FieldAccessor.ReflectiveFieldAccessor(field));
+    }
+
+    public Object get(Object record) throws IllegalAccessException {
+        return fieldAccessor.get(record);
+    }
+
+    public void set(Object record, Object value) throws IllegalAccessException {
+        fieldAccessor.set(record, value);
+    }
+
+    public String getType() {
+        return fieldAccessor.getClass().getSimpleName();
+    }
+}
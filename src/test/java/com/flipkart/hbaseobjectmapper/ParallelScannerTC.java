@@ -0,0 +1,22 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Scan;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Wrapper for {@link ParallelScanner} class. To be used in test cases only.
+ */
+public class ParallelScannerTC {
+    public static List<Scan> split(Scan scan, byte[][] regionStartKeys, byte[][] regionEndKeys) throws IOException {
+        return ParallelScanner.split(scan, regionStartKeys, regionEndKeys);
+    }
+
+    public static <R extends Serializable & Comparable<R>, T extends HBRecord<R>> Records<T> records(Connection connection, TableName tableName, List<Scan> subScans, HBObjectMapper hbObjectMapper, Class<T> clazz, int parallelism, boolean ordered) {
+        return new Records<>(new ParallelScanner<>(connection, tableName, subScans, RecordsTC.recordReader(hbObjectMapper, clazz), parallelism, ordered));
+    }
+}
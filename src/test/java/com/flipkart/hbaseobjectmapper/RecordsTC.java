@@ -0,0 +1,29 @@
+package com.flipkart.hbaseobjectmapper;
+
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+
+import java.io.Serializable;
+
+/**
+ * Factory for {@link Records} and {@link FieldValues} classes. To be used in test cases only.
+ */
+public class RecordsTC {
+    public static <R extends Serializable & Comparable<R>, T extends HBRecord<R>> Records<T> of(ResultScanner scanner, HBObjectMapper hbObjectMapper, Class<T> clazz) {
+        return new Records<>(scanner, recordReader(hbObjectMapper, clazz));
+    }
+
+    static <R extends Serializable & Comparable<R>, T extends HBRecord<R>> Records.RecordReader<T> recordReader(final HBObjectMapper hbObjectMapper, final Class<T> clazz) {
+        return new Records.RecordReader<T>() {
+            @Override
+            public T read(Result result) {
+                return hbObjectMapper.readValue(result, clazz);
+            }
+        };
+    }
+
+    public static <R extends Serializable & Comparable<R>, T extends HBRecord<R>> FieldValues<R> fieldValues(ResultScanner scanner, HBObjectMapper hbObjectMapper, Class<T> clazz, String fieldName) {
+        WrappedHBEntity<R, T> hbEntity = hbObjectMapper.validateHBClass(clazz);
+        return new FieldValues<>(scanner, hbObjectMapper, hbEntity, hbEntity.getColumn(fieldName));
+    }
+}
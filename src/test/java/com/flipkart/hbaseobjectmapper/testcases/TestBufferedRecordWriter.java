@@ -0,0 +1,202 @@
+package com.flipkart.hbaseobjectmapper.testcases;
+
+import com.flipkart.hbaseobjectmapper.BufferedRecordWriter;
+import com.flipkart.hbaseobjectmapper.BufferedRecordWriterTC;
+import com.flipkart.hbaseobjectmapper.HBObjectMapper;
+import com.flipkart.hbaseobjectmapper.WriteFailureListener;
+import com.flipkart.hbaseobjectmapper.testcases.entities.Citizen;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.apache.hadoop.hbase.client.*;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class TestBufferedRecordWriter {
+
+    private final HBObjectMapper hbMapper = new HBObjectMapper();
+
+    /**
+     * A {@link Connection} whose {@link BufferedMutator} records mutations it receives and counts flushes and closes (flushes block till <code>flushesReleased</code> is counted down and close fails with <code>closeFailure</code>, if set)
+     */
+    private static class FakeConnection {
+        final List<Mutation> mutations = Collections.synchronizedList(new ArrayList<Mutation>());
+        final AtomicInteger flushes = new AtomicInteger(), closes = new AtomicInteger();
+        final CountDownLatch flushed = new CountDownLatch(1);
+        volatile CountDownLatch flushesReleased = new CountDownLatch(0);
+        volatile IOException closeFailure;
+        BufferedMutatorParams params;
+
+        Connection connection() {
+            final BufferedMutator mutator = (BufferedMutator) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{BufferedMutator.class}, new InvocationHandler() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object invoke(Object proxy, Method method, Object[] args) throws IOException {
+                    switch (method.getName()) {
+                        case "mutate":
+                            if (args[0] instanceof List) {
+                                mutations.addAll((List<Mutation>) args[0]);
+                            } else {
+                                mutations.add((Mutation) args[0]);
+                            }
+                            return null;
+                        case "flush":
+                            flushes.incrementAndGet();
+                            flushed.countDown();
+                            Uninterruptibles.awaitUninterruptibly(flushesReleased);
+                            return null;
+                        case "close":
+                            closes.incrementAndGet();
+                            if (closeFailure != null) {
+                                throw closeFailure;
+                            }
+                            return null;
+                        case "getWriteBufferSize":
+                            return params.getWriteBufferSize();
+                        default:
+                            return null;
+                    }
+                }
+            });
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Connection.class}, new InvocationHandler() {
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) {
+                    if (method.getName().equals("getBufferedMutator")) {
+                        params = (BufferedMutatorParams) args[0];
+                        return mutator;
+                    }
+                    return null;
+                }
+            });
+        }
+    }
+
+    @Test
+    public void testWritesAreBuffered() throws IOException {
+        FakeConnection fake = new FakeConnection();
+        List<Citizen> citizens = TestObjects.validCitizenObjects;
+        try (BufferedRecordWriter<String, Citizen> writer = BufferedRecordWriterTC.of(fake.connection(), hbMapper, Citizen.class, 1024 * 1024, 0, null)) {
+            assertEquals("Write buffer size should have been passed on to HBase", 1024 * 1024, writer.getWriteBufferSize());
+            assertEquals("Buffered writer should write to entity's table", "citizens", fake.params.getTableName().getNameAsString());
+            assertEquals(citizens.get(0).composeRowKey(), writer.persist(citizens.get(0)));
+            List<String> rowKeys = writer.persist(citizens.subList(1, citizens.size()));
+            assertEquals(citizens.size() - 1, rowKeys.size());
+            writer.delete(citizens.get(0));
+            assertEquals("Writes shouldn't be flushed till buffer is full or flush is requested", 0, fake.flushes.get());
+            writer.flush();
+            assertEquals(1, fake.flushes.get());
+        }
+        assertEquals("Buffered writer should close BufferedMutator (which flushes it) when closed", 1, fake.closes.get());
+        assertEquals(citizens.size() + 1, fake.mutations.size());
+        for (int i = 0; i < citizens.size(); i++) {
+            assertEquals("Buffered writer should have sent same Put as HBObjectMapper would generate", citizens.get(i), hbMapper.readValue((Put) fake.mutations.get(i), Citizen.class));
+        }
+        Mutation delete = fake.mutations.get(citizens.size());
+        assertTrue(delete instanceof Delete);
+        assertArrayEquals(hbMapper.getRowKey(citizens.get(0)).get(), delete.getRow());
+    }
+
+    @Test
+    public void testCloseIsIdempotent() throws IOException {
+        FakeConnection fake = new FakeConnection();
+        BufferedRecordWriter<String, Citizen> writer = BufferedRecordWriterTC.of(fake.connection(), hbMapper, Citizen.class, 0, 0, null);
+        writer.close();
+        writer.close();
+        assertEquals(1, fake.closes.get());
+        try {
+            writer.persist(TestObjects.validCitizenObjects.get(0));
+            fail("Writes after close should fail");
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
+    @Test
+    public void testInterruptedCloseStillClosesMutator() throws Exception {
+        FakeConnection fake = new FakeConnection();
+        fake.flushesReleased = new CountDownLatch(1);
+        BufferedRecordWriter<String, Citizen> writer = BufferedRecordWriterTC.of(fake.connection(), hbMapper, Citizen.class, 0, 20, null);
+        assertTrue("Buffer should have been flushed periodically", fake.flushed.await(5, TimeUnit.SECONDS));
+        Thread.currentThread().interrupt(); // close is interrupted while waiting for the ongoing periodic flush
+        try {
+            writer.close();
+            fail("Interrupted close should throw " + InterruptedIOException.class.getSimpleName());
+        } catch (InterruptedIOException ignored) {
+        } finally {
+            assertTrue("Interrupt flag should have been restored", Thread.interrupted());
+            fake.flushesReleased.countDown();
+        }
+        assertEquals("Buffered writer should close BufferedMutator even if interrupted", 1, fake.closes.get());
+        writer.close();
+        assertEquals(1, fake.closes.get());
+    }
+
+    @Test
+    public void testFailureToCloseMutatorIsNotMasked() throws Exception {
+        FakeConnection fake = new FakeConnection();
+        fake.flushesReleased = new CountDownLatch(1);
+        fake.closeFailure = new IOException("Buffered writes failed");
+        BufferedRecordWriter<String, Citizen> writer = BufferedRecordWriterTC.of(fake.connection(), hbMapper, Citizen.class, 0, 20, null);
+        assertTrue("Buffer should have been flushed periodically", fake.flushed.await(5, TimeUnit.SECONDS));
+        Thread.currentThread().interrupt();
+        try {
+            writer.close();
+            fail("Failure to close BufferedMutator should have been thrown");
+        } catch (IOException e) {
+            assertSame("Failure to close BufferedMutator (i.e. failed writes) should have been thrown over interruption", fake.closeFailure, e);
+            assertEquals("Interruption should have been attached to failure as suppressed", 1, e.getSuppressed().length);
+            assertTrue(e.getSuppressed()[0] instanceof InterruptedIOException);
+        } finally {
+            assertTrue("Interrupt flag should have been restored", Thread.interrupted());
+            fake.flushesReleased.countDown();
+        }
+    }
+
+    @Test
+    public void testPeriodicFlush() throws Exception {
+        FakeConnection fake = new FakeConnection();
+        try (BufferedRecordWriter<String, Citizen> writer = BufferedRecordWriterTC.of(fake.connection(), hbMapper, Citizen.class, 0, 20, null)) {
+            writer.persist(TestObjects.validCitizenObjects.get(0));
+            assertTrue("Buffer should have been flushed periodically", fake.flushed.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testFailuresAreReportedWithRowKeys() throws IOException {
+        FakeConnection fake = new FakeConnection();
+        final Map<String, Throwable> failures = new LinkedHashMap<>();
+        try (BufferedRecordWriter<String, Citizen> ignored = BufferedRecordWriterTC.of(fake.connection(), hbMapper, Citizen.class, 0, 0, new WriteFailureListener<String>() {
+            @Override
+            public void onFailure(String rowKey, Throwable cause, String regionServerName) {
+                failures.put(rowKey, cause);
+            }
+        })) {
+            assertNotNull("Listener should have been passed on to HBase", fake.params.getListener());
+            List<Citizen> citizens = TestObjects.validCitizenObjects.subList(0, 2);
+            List<Throwable> causes = new ArrayList<>();
+            List<Row> rows = new ArrayList<>();
+            List<String> servers = new ArrayList<>();
+            for (Citizen citizen : citizens) {
+                causes.add(new IOException("failed " + citizen.composeRowKey()));
+                rows.add(hbMapper.writeValueAsPut(citizen));
+                servers.add("localhost:16020");
+            }
+            fake.params.getListener().onException(new RetriesExhaustedWithDetailsException(causes, rows, servers), null);
+            assertEquals("Row keys of failed writes should have been reported", Arrays.asList(citizens.get(0).composeRowKey(), citizens.get(1).composeRowKey()), new ArrayList<>(failures.keySet()));
+            assertSame(causes.get(1), failures.get(citizens.get(1).composeRowKey()));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeFlushInterval() throws IOException {
+        BufferedRecordWriterTC.of(new FakeConnection().connection(), hbMapper, Citizen.class, 0, -1, null);
+    }
+}
@@ -0,0 +1,88 @@
+package com.flipkart.hbaseobjectmapper.testcases;
+
+import com.flipkart.hbaseobjectmapper.ChangeTrackerTC;
+import com.flipkart.hbaseobjectmapper.HBObjectMapper;
+import com.flipkart.hbaseobjectmapper.testcases.entities.Citizen;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class TestChangeTracker {
+
+    private final HBObjectMapper hbMapper = new HBObjectMapper();
+
+    private static Citizen citizen(int uid, Integer sal, Long... phoneNumberTimestamps) {
+        NavigableMap<Long, Integer> phoneNumber = new TreeMap<>();
+        for (Long timestamp : phoneNumberTimestamps) {
+            phoneNumber.put(timestamp, (int) (100 + timestamp));
+        }
+        return new Citizen("IND", uid, "Manu", (short) 30, sal, false, 2.3f, 4.33, 34L, new BigDecimal(100), 560034, phoneNumber, null, null, null);
+    }
+
+    /**
+     * Columns written by a put, as "family:column" (suffixed with "@timestamp" for cells with explicit timestamps)
+     */
+    private static Set<String> columns(Put put) {
+        Set<String> columns = new TreeSet<>();
+        for (List<Cell> cells : put.getFamilyCellMap().values()) {
+            for (Cell cell : cells) {
+                String column = Bytes.toString(CellUtil.cloneFamily(cell)) + ":" + Bytes.toString(CellUtil.cloneQualifier(cell));
+                columns.add(cell.getTimestamp() == HConstants.LATEST_TIMESTAMP ? column : column + "@" + cell.getTimestamp());
+            }
+        }
+        return columns;
+    }
+
+    @Test
+    public void testOnlyChangedColumnsAreWritten() {
+        ChangeTrackerTC<String, Citizen> changeTracker = new ChangeTrackerTC<>(hbMapper, Citizen.class);
+        Result snapshot = hbMapper.writeValueAsResult(citizen(101, 30000, 1L, 2L));
+        Citizen unchanged = citizen(101, 30000, 1L, 2L);
+        changeTracker.track(unchanged, snapshot);
+        assertTrue("Nothing should have been written for an unchanged record", changeTracker.persist(unchanged).isEmpty());
+        Citizen changed = citizen(101, 40000, 1L, 2L, 3L);
+        changeTracker.track(changed, snapshot);
+        assertEquals("Only changed field and new version of multi-versioned field should have been written",
+                new TreeSet<>(Arrays.asList("optional:salary", "optional:phone_number@3")), columns(changeTracker.persist(changed)));
+        assertTrue("Record should have been remembered as it was written", changeTracker.persist(changed).isEmpty());
+    }
+
+    @Test
+    public void testUntrackedRecordsAreWrittenInFull() {
+        ChangeTrackerTC<String, Citizen> changeTracker = new ChangeTrackerTC<>(hbMapper, Citizen.class);
+        Citizen citizen = citizen(101, 30000, 1L, 2L);
+        Set<String> allColumns = columns(hbMapper.writeValueAsPut(citizen));
+        assertEquals("Record that wasn't read should have been written in full", allColumns, columns(changeTracker.persist(citizen)));
+        Citizen otherRow = citizen(102, 30000, 1L, 2L);
+        changeTracker.track(otherRow, hbMapper.writeValueAsResult(citizen(101, 30000, 1L, 2L)));
+        assertEquals("Record whose row key has changed since it was read should have been written in full", allColumns, columns(changeTracker.persist(otherRow)));
+    }
+
+    @Test
+    public void testInvalidatedRowsAreWrittenInFull() {
+        ChangeTrackerTC<String, Citizen> changeTracker = new ChangeTrackerTC<>(hbMapper, Citizen.class);
+        Citizen citizen = citizen(101, 30000, 1L, 2L), sameRow = citizen(101, 30000, 1L, 2L), otherRow = citizen(102, 30000, 1L, 2L);
+        Set<String> allColumns = columns(hbMapper.writeValueAsPut(citizen));
+        for (Citizen record : Arrays.asList(citizen, sameRow, otherRow)) {
+            changeTracker.track(record, hbMapper.writeValueAsResult(record));
+        }
+        changeTracker.invalidate(citizen.composeRowKey());
+        assertEquals("Record whose row was invalidated should have been written in full", allColumns, columns(changeTracker.persist(citizen)));
+        assertEquals("All records of an invalidated row should have been written in full", allColumns, columns(changeTracker.persist(sameRow)));
+        assertTrue("Records of other rows shouldn't have been affected by invalidation", changeTracker.persist(otherRow).isEmpty());
+        assertTrue("Record should have been remembered again once written in full", changeTracker.persist(sameRow).isEmpty());
+        assertEquals("Record should have been written in full since another record of it's row was written after it", allColumns, columns(changeTracker.persist(citizen)));
+        assertTrue(changeTracker.persist(citizen).isEmpty());
+        changeTracker.invalidate(citizen.composeRowKey());
+        assertEquals("Record should have been written in full after it's row was invalidated again", allColumns, columns(changeTracker.persist(citizen)));
+    }
+}
@@ -0,0 +1,148 @@
+package com.flipkart.hbaseobjectmapper.testcases;
+
+import com.flipkart.hbaseobjectmapper.CompactVersionMapTC;
+import com.flipkart.hbaseobjectmapper.HBObjectMapper;
+import com.flipkart.hbaseobjectmapper.testcases.entities.Citizen;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class TestCompactVersionMap {
+
+    private static final long[] PROBES = {Long.MIN_VALUE, 0, 5, 9, 10, 11, 15, 20, 25, 30, 31, 40, 45, 50, 51, Long.MAX_VALUE};
+
+    private final Random random = new Random(42);
+
+    private NavigableMap<Long, String> compactMapOf(NavigableMap<Long, String> map) {
+        long[] timestamps = new long[map.size()];
+        Object[] values = new Object[map.size()];
+        int i = 0;
+        for (Map.Entry<Long, String> e : map.entrySet()) {
+            timestamps[i] = e.getKey();
+            values[i] = e.getValue();
+            i++;
+        }
+        return CompactVersionMapTC.of(timestamps, values);
+    }
+
+    /**
+     * Recursively compare a map against it's {@link TreeMap} equivalent, including navigation methods and derived views (ranges are derived only from unrestricted maps, since {@link TreeMap} rejects keys outside range of a sub-map)
+     */
+    private void assertSameBehaviour(String description, NavigableMap<Long, String> expected, NavigableMap<Long, String> actual, int depth) {
+        assertEquals(description + ": maps differ", expected, actual);
+        assertEquals(description + ": hash codes differ", expected.hashCode(), actual.hashCode());
+        assertEquals(description + ": string representations differ", expected.toString(), actual.toString());
+        assertEquals(description + ": sizes differ", expected.size(), actual.size());
+        assertEquals(description + ": order of keys differs", new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()));
+        assertEquals(description + ": order of values differs", new ArrayList<>(expected.values()), new ArrayList<>(actual.values()));
+        assertEquals(description + ": first entries differ", expected.firstEntry(), actual.firstEntry());
+        assertEquals(description + ": last entries differ", expected.lastEntry(), actual.lastEntry());
+        if (!expected.isEmpty()) {
+            assertEquals(description + ": first keys differ", expected.firstKey(), actual.firstKey());
+            assertEquals(description + ": last keys differ", expected.lastKey(), actual.lastKey());
+        }
+        for (long probe : PROBES) {
+            String d = String.format("%s, probe %d", description, probe);
+            assertEquals(d + ": get", expected.get(probe), actual.get(probe));
+            assertEquals(d + ": containsKey", expected.containsKey(probe), actual.containsKey(probe));
+            assertEquals(d + ": lowerEntry", expected.lowerEntry(probe), actual.lowerEntry(probe));
+            assertEquals(d + ": floorEntry", expected.floorEntry(probe), actual.floorEntry(probe));
+            assertEquals(d + ": ceilingEntry", expected.ceilingEntry(probe), actual.ceilingEntry(probe));
+            assertEquals(d + ": higherEntry", expected.higherEntry(probe), actual.higherEntry(probe));
+            assertEquals(d + ": lowerKey", expected.lowerKey(probe), actual.lowerKey(probe));
+            assertEquals(d + ": floor (key set)", expected.navigableKeySet().floor(probe), actual.navigableKeySet().floor(probe));
+            assertEquals(d + ": higher (key set)", expected.navigableKeySet().higher(probe), actual.navigableKeySet().higher(probe));
+        }
+        if (depth == 0) {
+            return;
+        }
+        assertSameBehaviour(description + " > descending", expected.descendingMap(), actual.descendingMap(), depth - 1);
+        assertEquals(description + ": descending key sets differ", new ArrayList<>(expected.descendingKeySet()), new ArrayList<>(actual.descendingKeySet()));
+        for (long a : PROBES) {
+            for (boolean inclusive : new boolean[]{true, false}) {
+                assertSameBehaviour(String.format("%s > headMap(%d, %s)", description, a, inclusive), expected.headMap(a, inclusive), actual.headMap(a, inclusive), 0);
+                assertSameBehaviour(String.format("%s > tailMap(%d, %s)", description, a, inclusive), expected.tailMap(a, inclusive), actual.tailMap(a, inclusive), 0);
+            }
+            for (long b : PROBES) {
+                boolean inOrder = expected.comparator() == null ? a <= b : a >= b;
+                if (!inOrder) {
+                    continue;
+                }
+                for (boolean fromInclusive : new boolean[]{true, false}) {
+                    for (boolean toInclusive : new boolean[]{true, false}) {
+                        assertSameBehaviour(String.format("%s > subMap(%d, %s, %d, %s)", description, a, fromInclusive, b, toInclusive), expected.subMap(a, fromInclusive, b, toInclusive), actual.subMap(a, fromInclusive, b, toInclusive), 0);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testBehavesLikeTreeMap() {
+        for (int size : new int[]{0, 1, 2, 5}) {
+            NavigableMap<Long, String> expected = new TreeMap<>();
+            for (int i = 1; i <= size; i++) {
+                expected.put(i * 10L, i % 3 == 0 ? null : "v" + i);
+            }
+            assertSameBehaviour("Map of size " + size, expected, compactMapOf(expected), 2);
+        }
+    }
+
+    @Test
+    public void testUnsortedInput() {
+        NavigableMap<Long, String> expected = new TreeMap<>();
+        long[] timestamps = new long[50];
+        Object[] values = new Object[timestamps.length];
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = random.nextInt(30);
+            values[i] = "v" + i;
+            expected.put(timestamps[i], "v" + i);
+        }
+        NavigableMap<Long, String> actual = CompactVersionMapTC.of(timestamps, values);
+        assertSameBehaviour("Map built from unsorted timestamps", expected, actual, 1);
+    }
+
+    @Test
+    public void testImmutability() {
+        NavigableMap<Long, String> map = CompactVersionMapTC.of(new long[]{1, 2, 3}, new Object[]{"a", "b", "c"});
+        try {
+            map.put(4L, "d");
+            fail("put should have thrown " + UnsupportedOperationException.class.getSimpleName());
+        } catch (UnsupportedOperationException ignored) {
+        }
+        try {
+            map.pollFirstEntry();
+            fail("pollFirstEntry should have thrown " + UnsupportedOperationException.class.getSimpleName());
+        } catch (UnsupportedOperationException ignored) {
+        }
+        try {
+            map.headMap(3L).clear();
+            fail("clear on a view should have thrown " + UnsupportedOperationException.class.getSimpleName());
+        } catch (UnsupportedOperationException ignored) {
+        }
+        try {
+            Iterator<Long> iterator = map.keySet().iterator();
+            iterator.next();
+            iterator.remove();
+            fail("remove through iterator should have thrown " + UnsupportedOperationException.class.getSimpleName());
+        } catch (UnsupportedOperationException ignored) {
+        }
+        assertEquals("Map changed after failed attempts to mutate it", 3, map.size());
+    }
+
+    @Test
+    public void testMultiVersionFieldsAreReadIntoCompactMaps() {
+        HBObjectMapper hbMapper = new HBObjectMapper();
+        for (Citizen citizen : TestObjects.validCitizenObjects) {
+            if (citizen.getPhoneNumber() == null || citizen.getPhoneNumber().isEmpty()) {
+                continue;
+            }
+            Citizen citizenRead = hbMapper.readValue(hbMapper.writeValueAsResult(citizen), Citizen.class);
+            NavigableMap<Long, Integer> phoneNumber = citizenRead.getPhoneNumber();
+            assertEquals("Multi-version field wasn't read back as is", citizen.getPhoneNumber(), phoneNumber);
+            assertEquals("Multi-version field isn't in a compact map", CompactVersionMapTC.of(new long[0], new Object[0]).getClass(), phoneNumber.getClass());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.flipkart.hbaseobjectmapper.testcases;
+
+import com.flipkart.hbaseobjectmapper.AbstractHBDAO;
+import com.flipkart.hbaseobjectmapper.testcases.entities.Citizen;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TestCompareAndSet {
+
+    private static class CitizenDAO extends AbstractHBDAO<String, Citizen> {
+        private CitizenDAO(Connection connection) throws IOException {
+            super(connection);
+        }
+    }
+
+    /**
+     * A {@link Connection} to a fake table, whose <code>checkAndPut</code> records its arguments and succeeds only if the expected value matches the given one
+     */
+    private static Connection fakeConnection(final byte[] currentValue, final List<Object[]> checkAndPuts) {
+        final Table table = (Table) Proxy.newProxyInstance(TestCompareAndSet.class.getClassLoader(), new Class[]{Table.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("checkAndPut")) {
+                    checkAndPuts.add(args);
+                    return Bytes.equals(currentValue, (byte[]) args[3]);
+                }
+                return null;
+            }
+        });
+        return (Connection) Proxy.newProxyInstance(TestCompareAndSet.class.getClassLoader(), new Class[]{Connection.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                return method.getName().equals("getTable") ? table : null;
+            }
+        });
+    }
+
+    private static Citizen citizen(Long version) {
+        return new Citizen("IND", 101, "Manu", (short) 30, 30000, false, null, null, version, null, 560034, null, null, null, null);
+    }
+
+    @Test
+    public void testExpectedValueIsEncodedAsPerCodecFlags() throws IOException {
+        List<Object[]> checkAndPuts = new ArrayList<>();
+        CitizenDAO citizenDao = new CitizenDAO(fakeConnection(Bytes.toBytes("560034"), checkAndPuts));
+        assertTrue("Expected value of field with 'serializeAsString' flag should have been serialized as a string", citizenDao.persistIf(citizen(null), "pincode", 560034));
+        Object[] args = checkAndPuts.get(0);
+        assertEquals("optional", Bytes.toString((byte[]) args[1]));
+        assertEquals("pincode", Bytes.toString((byte[]) args[2]));
+        assertArrayEquals("Check should have been on the row of the object", ((Put) args[4]).getRow(), (byte[]) args[0]);
+        assertFalse(citizenDao.persistIf(citizen(null), "name", "Manu"));
+        assertArrayEquals("Expected value should have been serialized the same way as field is", Bytes.toBytes("Manu"), (byte[]) checkAndPuts.get(1)[3]);
+    }
+
+    @Test
+    public void testVersionIsIncrementedOnlyOnSuccess() throws IOException {
+        List<Object[]> checkAndPuts = new ArrayList<>();
+        CitizenDAO citizenDao = new CitizenDAO(fakeConnection(Bytes.toBytes(7L), checkAndPuts));
+        Citizen current = citizen(7L), stale = citizen(6L), fresh = citizen(null);
+        assertTrue(citizenDao.persistVersioned(current, "f3"));
+        assertEquals("Version should have been incremented", Long.valueOf(8), current.getF3());
+        assertFalse(citizenDao.persistVersioned(stale, "f3"));
+        assertEquals("Version of stale object shouldn't have been changed", Long.valueOf(6), stale.getF3());
+        assertFalse(citizenDao.persistVersioned(fresh, "f3"));
+        assertNull("Object with no version should have been checked for absence of version column", checkAndPuts.get(2)[3]);
+        assertNull(fresh.getF3());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testVersionFieldOfUnsupportedType() throws IOException {
+        new CitizenDAO(fakeConnection(null, new ArrayList<Object[]>())).persistVersioned(citizen(null), "name");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMultiVersionedFieldCantBeChecked() throws IOException {
+        new CitizenDAO(fakeConnection(null, new ArrayList<Object[]>())).persistIf(citizen(null), "phoneNumber", 1);
+    }
+}
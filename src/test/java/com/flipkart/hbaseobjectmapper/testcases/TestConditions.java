@@ -0,0 +1,81 @@
+package com.flipkart.hbaseobjectmapper.testcases;
+
+import com.flipkart.hbaseobjectmapper.Condition;
+import com.flipkart.hbaseobjectmapper.ConditionTC;
+import com.flipkart.hbaseobjectmapper.HBObjectMapper;
+import com.flipkart.hbaseobjectmapper.testcases.entities.Citizen;
+import org.apache.hadoop.hbase.filter.*;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.Test;
+
+import static com.flipkart.hbaseobjectmapper.Condition.field;
+import static com.flipkart.hbaseobjectmapper.Condition.rowKey;
+import static org.junit.Assert.*;
+
+public class TestConditions {
+
+    private final HBObjectMapper hbMapper = new HBObjectMapper();
+
+    private Filter toFilter(Condition condition) {
+        return ConditionTC.toFilter(condition, hbMapper, Citizen.class);
+    }
+
+    private static void assertColumnFilter(String message, Filter filter, String family, String column, CompareFilter.CompareOp compareOp, Class<? extends ByteArrayComparable> comparatorClass, byte[] value) {
+        assertTrue(message + ": not a column value filter", filter instanceof SingleColumnValueFilter);
+        SingleColumnValueFilter columnValueFilter = (SingleColumnValueFilter) filter;
+        assertArrayEquals(message + ": family", Bytes.toBytes(family), columnValueFilter.getFamily());
+        assertArrayEquals(message + ": column", Bytes.toBytes(column), columnValueFilter.getQualifier());
+        assertEquals(message + ": operator", compareOp, columnValueFilter.getOperator());
+        assertEquals(message + ": comparator", comparatorClass, columnValueFilter.getComparator().getClass());
+        assertArrayEquals(message + ": value", value, columnValueFilter.getComparator().getValue());
+        assertTrue(message + ": rows missing the column shouldn't pass", columnValueFilter.getFilterIfMissing());
+    }
+
+    @Test
+    public void testFieldConditions() {
+        assertColumnFilter("gt", toFilter(field("age").gt((short) 30)), "optional", "age", CompareFilter.CompareOp.GREATER, BinaryComparator.class, Bytes.toBytes((short) 30));
+        assertColumnFilter("le", toFilter(field("sal").le(1000)), "optional", "salary", CompareFilter.CompareOp.LESS_OR_EQUAL, BinaryComparator.class, Bytes.toBytes(1000));
+        assertColumnFilter("eq", toFilter(field("name").eq("Ajay")), "main", "name", CompareFilter.CompareOp.EQUAL, BinaryComparator.class, Bytes.toBytes("Ajay"));
+        assertColumnFilter("startsWith", toFilter(field("name").startsWith("A")), "main", "name", CompareFilter.CompareOp.EQUAL, BinaryPrefixComparator.class, Bytes.toBytes("A"));
+    }
+
+    @Test
+    public void testRowKeyCondition() {
+        Filter filter = toFilter(rowKey().startsWith("IND#"));
+        assertTrue("Condition on row key prefix should translate to a " + PrefixFilter.class.getSimpleName(), filter instanceof PrefixFilter);
+        assertArrayEquals(Bytes.toBytes("IND#"), ((PrefixFilter) filter).getPrefix());
+    }
+
+    @Test
+    public void testCompositeConditions() {
+        Filter filter = toFilter(field("age").gt((short) 30).and(field("name").startsWith("A")).and(field("sal").lt(100).or(field("sal").gt(1000))));
+        assertTrue(filter instanceof FilterList);
+        FilterList all = (FilterList) filter;
+        assertEquals(FilterList.Operator.MUST_PASS_ALL, all.getOperator());
+        assertEquals("Nested 'and' conditions should have been flattened", 3, all.getFilters().size());
+        assertColumnFilter("and[0]", all.getFilters().get(0), "optional", "age", CompareFilter.CompareOp.GREATER, BinaryComparator.class, Bytes.toBytes((short) 30));
+        assertColumnFilter("and[1]", all.getFilters().get(1), "main", "name", CompareFilter.CompareOp.EQUAL, BinaryPrefixComparator.class, Bytes.toBytes("A"));
+        FilterList one = (FilterList) all.getFilters().get(2);
+        assertEquals(FilterList.Operator.MUST_PASS_ONE, one.getOperator());
+        assertEquals(2, one.getFilters().size());
+        assertColumnFilter("or[0]", one.getFilters().get(0), "optional", "salary", CompareFilter.CompareOp.LESS, BinaryComparator.class, Bytes.toBytes(100));
+        assertColumnFilter("or[1]", one.getFilters().get(1), "optional", "salary", CompareFilter.CompareOp.GREATER, BinaryComparator.class, Bytes.toBytes(1000));
+    }
+
+    @Test
+    public void testInvalidConditions() {
+        Condition[] invalidConditions = {
+                field("unknownField").eq("x"),
+                field("age").gt(30), // Integer, whereas field is a Short
+                field("age").eq(null),
+                field("sal").startsWith("1")
+        };
+        for (Condition condition : invalidConditions) {
+            try {
+                toFilter(condition);
+                fail("Translating an invalid condition should have thrown " + IllegalArgumentException.class.getSimpleName());
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.flipkart.hbaseobjectmapper.testcases;
+
+import com.flipkart.hbaseobjectmapper.FieldAccessorTC;
+import com.flipkart.hbaseobjectmapper.HBObjectMapper;
+import com.flipkart.hbaseobjectmapper.testcases.entities.Citizen;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.flipkart.hbaseobjectmapper.testcases.TestObjects.validCitizenObjectsNoVersion;
+import static org.junit.Assert.assertEquals;
+
+public class TestFieldAccessors {
+    private static final int NUM_ITERATIONS = 200000;
+
+    private final List<Field> citizenFields = new ArrayList<>(new HBObjectMapper().getHBColumnFields(Citizen.class).values());
+
+    @Test
+    public void testGetAndSet() throws IllegalAccessException {
+        for (Field field : citizenFields) {
+            FieldAccessorTC accessor = FieldAccessorTC.of(field), reflectiveAccessor = FieldAccessorTC.reflective(field);
+            for (Citizen citizen : validCitizenObjectsNoVersion) {
+                Object value = reflectiveAccessor.get(citizen);
+                assertEquals(String.format("Value of field \"%s\" mismatches between %s and %s", field.getName(), accessor.getType(), reflectiveAccessor.getType()), value, accessor.get(citizen));
+                Citizen copy = new Citizen();
+                accessor.set(copy, value);
+                assertEquals(String.format("Value of field \"%s\" wasn't set by %s", field.getName(), accessor.getType()), value, reflectiveAccessor.get(copy));
+            }
+        }
+    }
+
+    @Test
+    public void testPerformance() throws IllegalAccessException {
+        List<FieldAccessorTC> accessors = new ArrayList<>(citizenFields.size()), reflectiveAccessors = new ArrayList<>(citizenFields.size());
+        for (Field field : citizenFields) {
+            accessors.add(FieldAccessorTC.of(field));
+            reflectiveAccessors.add(FieldAccessorTC.reflective(field));
+        }
+        for (int i = 0; i < 2; i++) { // first round is for warm-up
+            long reflectiveTime = timeGetAndSet(reflectiveAccessors), time = timeGetAndSet(accessors);
+            System.out.printf("Time taken to get and set %d fields of %d records: %s = %dms, %s = %dms%n", citizenFields.size(), NUM_ITERATIONS, reflectiveAccessors.get(0).getType(), reflectiveTime, accessors.get(0).getType(), time);
+        }
+    }
+
+    private long timeGetAndSet(List<FieldAccessorTC> accessors) throws IllegalAccessException {
+        Citizen source = validCitizenObjectsNoVersion.get(0), target = new Citizen();
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < NUM_ITERATIONS; i++) {
+            for (FieldAccessorTC accessor : accessors) {
+                accessor.set(target, accessor.get(source));
+            }
+        }
+        return System.currentTimeMillis() - start;
+    }
+}
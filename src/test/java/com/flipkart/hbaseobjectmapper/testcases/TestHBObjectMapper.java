@@ -3,9 +3,13 @@ package com.flipkart.hbaseobjectmapper.testcases;
 import com.flipkart.hbaseobjectmapper.*;
 import com.flipkart.hbaseobjectmapper.exceptions.*;
 import com.flipkart.hbaseobjectmapper.testcases.entities.*;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.KeyValue;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.io.ImmutableBytesWritable;
+import org.apache.hadoop.hbase.util.Bytes;
 import org.javatuples.Triplet;
 import org.junit.Test;
 
@@ -180,6 +184,17 @@ public class TestHBObjectMapper {
         }
     }
 
+    @Test
+    public void testMetadataIsCached() {
+        for (HBRecord record : validObjects) {
+            Class<? extends HBRecord> clazz = record.getClass();
+            assertSame("Mapping metadata of " + clazz.getName() + " was built again on subsequent access", hbMapper.getHBColumnFields(clazz), hbMapper.getHBColumnFields(clazz));
+        }
+        HBObjectMapper anotherMapper = new HBObjectMapper();
+        assertNotSame("Mapping metadata shouldn't be shared across instances of " + HBObjectMapper.class.getSimpleName(), hbMapper.getHBColumnFields(Citizen.class), anotherMapper.getHBColumnFields(Citizen.class));
+        assertEquals("Mapping metadata differs across instances of " + HBObjectMapper.class.getSimpleName(), hbMapper.getHBColumnFields(Citizen.class), anotherMapper.getHBColumnFields(Citizen.class));
+    }
+
     @Test
     public void testInvalidObjects() {
         for (Triplet<HBRecord, String, Class<? extends IllegalArgumentException>> p : TestObjects.invalidObjects) {
@@ -298,6 +313,55 @@ public class TestHBObjectMapper {
         }
     }
 
+    @Test
+    public void testUnmappedColumnsInResult() {
+        for (HBRecord record : validObjects) {
+            Result result = hbMapper.writeValueAsResult(record);
+            byte[] row = result.getRow();
+            List<Cell> cells = new ArrayList<>(Arrays.asList(result.rawCells()));
+            for (String family : new String[]{"a", "main", "optional", "zzz"}) {
+                for (String column : new String[]{"", "aaa", "phone", "zzz"}) {
+                    cells.add(CellUtil.createCell(row, Bytes.toBytes(family), Bytes.toBytes(column), 1L, KeyValue.Type.Put.getCode(), Bytes.toBytes("unmapped")));
+                }
+            }
+            Collections.sort(cells, KeyValue.COMPARATOR);
+            assertEquals("Unmapped columns in Result interfered with deserialization", record, hbMapper.readValue(Result.create(cells), record.getClass()));
+        }
+    }
+
+    @Test
+    public void testCellsAreWrittenInHBaseOrder() {
+        NavigableMap<Long, Integer> reverseOrderedPhoneNumbers = new TreeMap<>(Collections.<Long>reverseOrder());
+        reverseOrderedPhoneNumbers.put(1L, 900000001);
+        reverseOrderedPhoneNumbers.put(2L, 900000002);
+        reverseOrderedPhoneNumbers.put(3L, 900000003);
+        NavigableMap<Long, Integer> descendingPhoneNumbers = CompactVersionMapTC.<Integer>of(new long[]{1L, 2L, 3L}, new Object[]{900000001, 900000002, 900000003}).descendingMap();
+        List<HBRecord> records = new ArrayList<HBRecord>(validObjects);
+        for (NavigableMap<Long, Integer> phoneNumbers : Arrays.asList(reverseOrderedPhoneNumbers, descendingPhoneNumbers)) {
+            Citizen citizen = new Citizen("IND", 1, "Nobody", null, null, null, null, null, null, null, null, phoneNumbers, null, null, null);
+            records.add(citizen);
+            Result result = hbMapper.writeValueAsResult(citizen);
+            assertEquals("Latest version of a column whose versions aren't in natural order was not the latest cell of Result", 900000003, Bytes.toInt(result.getValue(Bytes.toBytes("optional"), Bytes.toBytes("phone_number"))));
+        }
+        for (HBRecord record : records) {
+            List<Cell> cells = Arrays.asList(hbMapper.writeValueAsResult(record).rawCells());
+            List<Cell> sortedCells = new ArrayList<>(cells);
+            Collections.sort(sortedCells, KeyValue.COMPARATOR);
+            assertEquals("Cells of Result aren't in the order HBase sorts them: " + record, sortedCells, cells);
+            List<Cell> putCells = new ArrayList<>();
+            for (List<Cell> familyCells : hbMapper.writeValueAsPut(record).getFamilyCellMap().values()) {
+                putCells.addAll(familyCells);
+            }
+            assertEquals("Put and Result have different number of cells: " + record, cells.size(), putCells.size());
+            for (int i = 0; i < cells.size(); i++) {
+                Cell resultCell = cells.get(i), putCell = putCells.get(i);
+                assertTrue("Put and Result differ in column of cell at position " + i + ": " + record, CellUtil.matchingColumn(resultCell, CellUtil.cloneFamily(putCell), CellUtil.cloneQualifier(putCell)));
+                assertEquals("Put and Result differ in timestamp of cell at position " + i + ": " + record, resultCell.getTimestamp(), putCell.getTimestamp());
+                assertArrayEquals("Put and Result differ in value of cell at position " + i + ": " + record, CellUtil.cloneValue(resultCell), CellUtil.cloneValue(putCell));
+            }
+        }
+    }
+
     @Test
     public void testHBColumnMultiVersion() {
         Double[] testNumbers = new Double[]{3.14159, 2.71828, 0.0};
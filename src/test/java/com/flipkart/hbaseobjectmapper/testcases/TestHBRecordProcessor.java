@@ -0,0 +1,98 @@
+package com.flipkart.hbaseobjectmapper.testcases;
+
+import com.flipkart.hbaseobjectmapper.FieldAccessorTC;
+import com.flipkart.hbaseobjectmapper.HBObjectMapper;
+import com.flipkart.hbaseobjectmapper.HBRecord;
+import com.flipkart.hbaseobjectmapper.processor.HBRecordProcessor;
+import org.apache.hadoop.hbase.client.Put;
+import org.junit.Test;
+
+import javax.tools.*;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class TestHBRecordProcessor {
+    private static final String ENTITY_SOURCE = "package sample;\n" +
+            "import com.flipkart.hbaseobjectmapper.*;\n" +
+            "@HBTable(name = \"samples\", families = {@Family(name = \"f\")})\n" +
+            "public class Sample implements HBRecord<String> {\n" +
+            "    @HBRowKey private String key;\n" +
+            "    @HBColumn(family = \"f\", column = \"a\") Integer visible;\n" +
+            "    @HBColumn(family = \"f\", column = \"b\") private String withAccessors;\n" +
+            "    @HBColumn(family = \"f\", column = \"c\") private Long withoutAccessors;\n" +
+            "    public Sample() {}\n" +
+            "    public Sample(String key, Integer visible, String withAccessors, Long withoutAccessors) {\n" +
+            "        this.key = key; this.visible = visible; this.withAccessors = withAccessors; this.withoutAccessors = withoutAccessors;\n" +
+            "    }\n" +
+            "    public String composeRowKey() { return key; }\n" +
+            "    public void parseRowKey(String rowKey) { this.key = rowKey; }\n" +
+            "    public String getWithAccessors() { return withAccessors; }\n" +
+            "    public void setWithAccessors(String withAccessors) { this.withAccessors = withAccessors; }\n" +
+            "    @Override public boolean equals(Object o) { return o instanceof Sample && toString().equals(o.toString()); }\n" +
+            "    @Override public int hashCode() { return toString().hashCode(); }\n" +
+            "    @Override public String toString() { return key + \"/\" + visible + \"/\" + withAccessors + \"/\" + withoutAccessors; }\n" +
+            "}\n";
+
+    private static final String INVALID_ENTITY_SOURCE = "package sample;\n" +
+            "import com.flipkart.hbaseobjectmapper.*;\n" +
+            "@HBTable(name = \"samples\", families = {@Family(name = \"f\")})\n" +
+            "public class InvalidSample implements HBRecord<String> {\n" +
+            "    @HBRowKey private String key;\n" +
+            "    @HBColumn(family = \"f\", column = \"a\") Integer i;\n" +
+            "    @HBColumn(family = \"f\", column = \"a\") Integer j;\n" +
+            "    public String composeRowKey() { return key; }\n" +
+            "    public void parseRowKey(String rowKey) { this.key = rowKey; }\n" +
+            "}\n";
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGeneratedMapper() throws Exception {
+        Path outputDir = Files.createTempDirectory("hbase-orm-processor");
+        StringWriter output = new StringWriter();
+        assertTrue("Compilation failed: " + output, compile(outputDir, "Sample", ENTITY_SOURCE, output));
+        assertTrue("Mapper wasn't generated", Files.exists(outputDir.resolve("sample/Sample_HBMapper.java")));
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{outputDir.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<HBRecord<String>> clazz = (Class<HBRecord<String>>) classLoader.loadClass("sample.Sample");
+            HBObjectMapper hbObjectMapper = new HBObjectMapper();
+            assertEquals("GeneratedFieldAccessor", FieldAccessorTC.of(hbObjectMapper, clazz, "visible").getType());
+            assertEquals("GeneratedFieldAccessor", FieldAccessorTC.of(hbObjectMapper, clazz, "withAccessors").getType());
+            assertEquals("MethodHandleFieldAccessor", FieldAccessorTC.of(hbObjectMapper, clazz, "withoutAccessors").getType());
+            HBRecord<String> record = clazz.getConstructor(String.class, Integer.class, String.class, Long.class).newInstance("key1", 1, "abc", 2L);
+            Put put = hbObjectMapper.writeValueAsPut(record);
+            assertEquals("Data mismatch after serialization and deserialization through generated mapper", record, hbObjectMapper.readValue(put, clazz));
+            assertEquals("Data mismatch after serialization and deserialization through generated mapper", record, hbObjectMapper.readValue(hbObjectMapper.writeValueAsResult(record), clazz));
+        }
+    }
+
+    @Test
+    public void testCompileTimeValidation() throws IOException {
+        Path outputDir = Files.createTempDirectory("hbase-orm-processor");
+        StringWriter output = new StringWriter();
+        assertFalse("Compilation was expected to fail for an entity with two fields mapped to same column", compile(outputDir, "InvalidSample", INVALID_ENTITY_SOURCE, output));
+        assertTrue("Unexpected compilation errors: " + output, output.toString().contains("mapped to same HBase column f:a"));
+        assertFalse("Mapper was generated for an invalid entity", Files.exists(outputDir.resolve("sample/InvalidSample_HBMapper.java")));
+    }
+
+    private boolean compile(Path outputDir, String className, String source, StringWriter output) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Path sourceFile = outputDir.resolve("sample").resolve(className + ".java");
+        Files.createDirectories(sourceFile.getParent());
+        Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(output, fileManager, null,
+                    Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d", outputDir.toString(), "-s", outputDir.toString(), "-processor", HBRecordProcessor.class.getName()),
+                    null, fileManager.getJavaFileObjectsFromFiles(Collections.singletonList(new File(sourceFile.toString()))));
+            return task.call();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.flipkart.hbaseobjectmapper.testcases;
+
+import com.flipkart.hbaseobjectmapper.HBObjectMapper;
+import com.flipkart.hbaseobjectmapper.ParallelScannerTC;
+import com.flipkart.hbaseobjectmapper.Records;
+import com.flipkart.hbaseobjectmapper.testcases.entities.Citizen;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.*;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class TestParallelScanner {
+
+    private static final byte[] E = new byte[0];
+
+    private final HBObjectMapper hbMapper = new HBObjectMapper();
+
+    private static byte[] b(String s) {
+        return Bytes.toBytes(s);
+    }
+
+    private static List<String> ranges(List<Scan> scans) {
+        List<String> ranges = new ArrayList<>(scans.size());
+        for (Scan scan : scans) {
+            ranges.add(String.format("[%s, %s)", Bytes.toString(scan.getStartRow()), Bytes.toString(scan.getStopRow())));
+        }
+        return ranges;
+    }
+
+    @Test
+    public void testSplit() throws IOException {
+        byte[][] startKeys = {E, b("d"), b("m")}, endKeys = {b("d"), b("m"), E};
+        assertEquals("Full-table scan should be split into one scan per region",
+                Arrays.asList("[, d)", "[d, m)", "[m, )"), ranges(ParallelScannerTC.split(new Scan(), startKeys, endKeys)));
+        assertEquals("Scan should be clipped to region boundaries",
+                Arrays.asList("[b, d)", "[d, m)", "[m, p)"), ranges(ParallelScannerTC.split(new Scan(b("b"), b("p")), startKeys, endKeys)));
+        assertEquals("Regions that don't overlap with range of scan should be skipped",
+                Arrays.asList("[e, g)"), ranges(ParallelScannerTC.split(new Scan(b("e"), b("g")), startKeys, endKeys)));
+        assertEquals("Scan ending at a region boundary shouldn't include next region",
+                Arrays.asList("[a, d)"), ranges(ParallelScannerTC.split(new Scan(b("a"), b("d")), startKeys, endKeys)));
+        assertEquals("Open-ended scan should include all following regions",
+                Arrays.asList("[f, m)", "[m, )"), ranges(ParallelScannerTC.split(new Scan(b("f"), E), startKeys, endKeys)));
+        assertEquals("Table with a single region should result in a single scan",
+                Arrays.asList("[b, p)"), ranges(ParallelScannerTC.split(new Scan(b("b"), b("p")), new byte[][]{E}, new byte[][]{E})));
+    }
+
+    /**
+     * A {@link Connection} to a fake table, whose scanners return given rows (that fall within range of the scan) after an optional delay per row
+     */
+    private Connection fakeConnection(final List<Result> rows, final long delayPerRowMillis) {
+        final Table table = (Table) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Table.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                switch (method.getName()) {
+                    case "getScanner":
+                        Scan scan = (Scan) args[0];
+                        final Deque<Result> rowsInRange = new ArrayDeque<>();
+                        for (Result row : rows) {
+                            if (Bytes.compareTo(row.getRow(), scan.getStartRow()) >= 0 && (scan.getStopRow().length == 0 || Bytes.compareTo(row.getRow(), scan.getStopRow()) < 0)) {
+                                rowsInRange.add(row);
+                            }
+                        }
+                        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{ResultScanner.class}, new InvocationHandler() {
+                            @Override
+                            public Object invoke(Object proxy, Method method, Object[] args) {
+                                if (method.getName().equals("iterator")) {
+                                    return new Iterator<Result>() {
+                                        @Override
+                                        public boolean hasNext() {
+                                            return !rowsInRange.isEmpty();
+                                        }
+
+                                        @Override
+                                        public Result next() {
+                                            try {
+                                                Thread.sleep(delayPerRowMillis);
+                                            } catch (InterruptedException e) {
+                                                throw new RuntimeException(e);
+                                            }
+                                            return rowsInRange.remove();
+                                        }
+
+                                        @Override
+                                        public void remove() {
+                                            throw new UnsupportedOperationException();
+                                        }
+                                    };
+                                }
+                                return null;
+                            }
+                        });
+                    default:
+                        return null;
+                }
+            }
+        });
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Connection.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                return method.getName().equals("getTable") ? table : null;
+            }
+        });
+    }
+
+    @Test
+    public void testParallelScan() throws IOException {
+        Comparator<Citizen> rowKeyOrder = new Comparator<Citizen>() {
+            @Override
+            public int compare(Citizen c1, Citizen c2) {
+                return Bytes.compareTo(hbMapper.getRowKey(c1).get(), hbMapper.getRowKey(c2).get());
+            }
+        };
+        List<Citizen> citizens = new ArrayList<>(TestObjects.validCitizenObjects);
+        Collections.sort(citizens, rowKeyOrder);
+        List<Result> rows = new ArrayList<>(citizens.size());
+        for (Citizen citizen : citizens) {
+            rows.add(hbMapper.writeValueAsResult(citizen));
+        }
+        // split table into regions such that each region has at most 2 rows:
+        List<byte[]> startKeys = new ArrayList<>(), endKeys = new ArrayList<>();
+        startKeys.add(E);
+        for (int i = 2; i < rows.size(); i += 2) {
+            endKeys.add(rows.get(i).getRow());
+            startKeys.add(rows.get(i).getRow());
+        }
+        endKeys.add(E);
+        List<Scan> subScans = ParallelScannerTC.split(new Scan(), startKeys.toArray(new byte[0][]), endKeys.toArray(new byte[0][]));
+        assertEquals(startKeys.size(), subScans.size());
+        Connection connection = fakeConnection(rows, 10);
+        for (int parallelism : new int[]{1, 2, 8}) {
+            try (Records<Citizen> records = ParallelScannerTC.records(connection, TableName.valueOf("citizens"), subScans, hbMapper, Citizen.class, parallelism, true)) {
+                List<Citizen> actual = new ArrayList<>();
+                for (Citizen citizen : records) {
+                    actual.add(citizen);
+                }
+                assertEquals("[ordered, parallelism=" + parallelism + "] Records read through parallel scan should be identical to those in table, in same order", citizens, actual);
+            }
+            try (Records<Citizen> records = ParallelScannerTC.records(connection, TableName.valueOf("citizens"), subScans, hbMapper, Citizen.class, parallelism, false)) {
+                List<Citizen> actual = new ArrayList<>();
+                for (Citizen citizen : records) {
+                    actual.add(citizen);
+                }
+                Collections.sort(actual, rowKeyOrder);
+                assertEquals("[unordered, parallelism=" + parallelism + "] Records read through parallel scan should be identical to those in table", citizens, actual);
+            }
+        }
+        try (Records<Citizen> records = ParallelScannerTC.records(connection, TableName.valueOf("citizens"), subScans, hbMapper, Citizen.class, 2, true)) {
+            assertNotNull("Parallel scan closed midway should have returned first record", records.iterator().next());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.flipkart.hbaseobjectmapper.testcases;
+
+import com.flipkart.hbaseobjectmapper.FieldValue;
+import com.flipkart.hbaseobjectmapper.FieldValues;
+import com.flipkart.hbaseobjectmapper.HBObjectMapper;
+import com.flipkart.hbaseobjectmapper.Records;
+import com.flipkart.hbaseobjectmapper.RecordsTC;
+import com.flipkart.hbaseobjectmapper.testcases.entities.Citizen;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+public class TestRecords {
+
+    private final HBObjectMapper hbMapper = new HBObjectMapper();
+
+    /**
+     * A {@link ResultScanner} over an in-memory list of {@link Result}s, that tracks whether it's been closed
+     */
+    private static class InMemoryResultScanner implements ResultScanner {
+        private final Iterator<Result> results;
+        private int closeCount = 0;
+
+        InMemoryResultScanner(List<Result> results) {
+            this.results = results.iterator();
+        }
+
+        @Override
+        public Result next() {
+            return results.hasNext() ? results.next() : null;
+        }
+
+        @Override
+        public Result[] next(int nbRows) {
+            List<Result> batch = new ArrayList<>(nbRows);
+            for (Result result; batch.size() < nbRows && (result = next()) != null; ) {
+                batch.add(result);
+            }
+            return batch.toArray(new Result[batch.size()]);
+        }
+
+        @Override
+        public void close() {
+            closeCount++;
+        }
+
+        @Override
+        public Iterator<Result> iterator() {
+            return results;
+        }
+    }
+
+    private InMemoryResultScanner scannerOver(List<Citizen> citizens) {
+        List<Result> results = new ArrayList<>(citizens.size());
+        for (Citizen citizen : citizens) {
+            results.add(hbMapper.writeValueAsResult(citizen));
+        }
+        return new InMemoryResultScanner(results);
+    }
+
+    @Test
+    public void testRecordsAreReadLazilyAndScannerIsClosed() {
+        List<Citizen> citizens = TestObjects.validCitizenObjects;
+        InMemoryResultScanner scanner = scannerOver(citizens);
+        try (Records<Citizen> records = RecordsTC.of(scanner, hbMapper, Citizen.class)) {
+            int i = 0;
+            for (Citizen citizen : records) {
+                assertEquals("Unexpected record at position " + i, citizens.get(i), citizen);
+                assertEquals("Scanner closed before all records were read", 0, scanner.closeCount);
+                i++;
+            }
+            assertEquals("Unexpected number of records", citizens.size(), i);
+            assertEquals("Scanner wasn't closed after last record was read", 1, scanner.closeCount);
+        }
+        assertEquals("Scanner was closed more than once", 1, scanner.closeCount);
+    }
+
+    @Test
+    public void testRowsSplitAcrossResultsAreStitched() {
+        List<Citizen> citizens = TestObjects.validCitizenObjects;
+        for (int batch : new int[]{1, 2, 3}) {
+            // emulate a scan with 'batch' set, i.e. one that returns at most 'batch' cells per Result:
+            List<Result> results = new ArrayList<>();
+            for (Citizen citizen : citizens) {
+                Cell[] cells = hbMapper.writeValueAsResult(citizen).rawCells();
+                for (int from = 0; from < cells.length; from += batch) {
+                    results.add(Result.create(Arrays.asList(cells).subList(from, Math.min(from + batch, cells.length))));
+                }
+            }
+            try (Records<Citizen> records = RecordsTC.of(new InMemoryResultScanner(results), hbMapper, Citizen.class)) {
+                int i = 0;
+                for (Citizen citizen : records) {
+                    assertEquals(String.format("[batch=%d] Unexpected record at position %d", batch, i), citizens.get(i), citizen);
+                    i++;
+                }
+                assertEquals(String.format("[batch=%d] Unexpected number of records", batch), citizens.size(), i);
+            }
+        }
+    }
+
+    @Test
+    public void testFieldValuesAreStreamedRowByRow() {
+        List<Citizen> citizens = TestObjects.validCitizenObjects;
+        InMemoryResultScanner scanner = scannerOver(citizens);
+        NavigableMap<String, NavigableMap<Long, Object>> actual = new TreeMap<>();
+        List<String> rowKeysInOrder = new ArrayList<>();
+        try (FieldValues<String> fieldValues = RecordsTC.fieldValues(scanner, hbMapper, Citizen.class, "phoneNumber")) {
+            for (FieldValue<String> fieldValue : fieldValues) {
+                if (!actual.containsKey(fieldValue.getRowKey())) {
+                    actual.put(fieldValue.getRowKey(), new TreeMap<Long, Object>());
+                    rowKeysInOrder.add(fieldValue.getRowKey());
+                }
+                assertEquals("Values of a row weren't returned together", fieldValue.getRowKey(), rowKeysInOrder.get(rowKeysInOrder.size() - 1));
+                actual.get(fieldValue.getRowKey()).put(fieldValue.getTimestamp(), fieldValue.getValue());
+            }
+            assertEquals("Scanner wasn't closed after last value was read", 1, scanner.closeCount);
+        }
+        List<String> expectedRowKeys = new ArrayList<>();
+        for (Citizen citizen : citizens) {
+            if (citizen.getPhoneNumber() != null && !citizen.getPhoneNumber().isEmpty()) {
+                expectedRowKeys.add(citizen.composeRowKey());
+                assertEquals("Unexpected values for row " + citizen.composeRowKey(), citizen.getPhoneNumber(), actual.get(citizen.composeRowKey()));
+            }
+        }
+        assertEquals("Unexpected rows (or order of rows)", expectedRowKeys, rowKeysInOrder);
+    }
+
+    @Test
+    public void testRecordsClosedMidway() {
+        InMemoryResultScanner scanner = scannerOver(TestObjects.validCitizenObjects);
+        Iterator<Citizen> iterator;
+        try (Records<Citizen> records = RecordsTC.of(scanner, hbMapper, Citizen.class)) {
+            iterator = records.iterator();
+            assertNotNull(iterator.next());
+        }
+        assertEquals("Scanner wasn't closed", 1, scanner.closeCount);
+        assertFalse("Iterator yielded records after being closed", iterator.hasNext());
+    }
+
+    @Test
+    public void testRecordsIterableOnlyOnce() {
+        try (Records<Citizen> records = RecordsTC.of(scannerOver(TestObjects.validCitizenObjects), hbMapper, Citizen.class)) {
+            records.iterator();
+            try {
+                records.iterator();
+                fail("Records shouldn't be iterable more than once");
+            } catch (IllegalStateException ignored) {
+            }
+        }
+    }
+}
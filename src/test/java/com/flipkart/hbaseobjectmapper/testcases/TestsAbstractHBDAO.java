@@ -1,13 +1,22 @@
 package com.flipkart.hbaseobjectmapper.testcases;
 
+import com.flipkart.hbaseobjectmapper.BufferedRecordWriter;
 import com.flipkart.hbaseobjectmapper.HBRecord;
+import com.flipkart.hbaseobjectmapper.Page;
+import com.flipkart.hbaseobjectmapper.RecordCallback;
+import com.flipkart.hbaseobjectmapper.Records;
+import com.flipkart.hbaseobjectmapper.RowKeys;
+import com.flipkart.hbaseobjectmapper.ScanOptions;
+import com.flipkart.hbaseobjectmapper.TimestampRange;
 import com.flipkart.hbaseobjectmapper.WrappedHBColumnTC;
+import com.flipkart.hbaseobjectmapper.WriteFailureListener;
 import com.flipkart.hbaseobjectmapper.codec.JavaObjectStreamCodec;
 import com.flipkart.hbaseobjectmapper.testcases.daos.*;
 import com.flipkart.hbaseobjectmapper.testcases.entities.*;
 import com.flipkart.hbaseobjectmapper.testcases.util.cluster.HBaseCluster;
 import com.flipkart.hbaseobjectmapper.testcases.util.cluster.InMemoryHBaseCluster;
 import com.flipkart.hbaseobjectmapper.testcases.util.cluster.RealHBaseCluster;
+import com.google.common.util.concurrent.Uninterruptibles;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hbase.client.Connection;
 import org.apache.hadoop.hbase.client.ConnectionFactory;
@@ -24,6 +33,7 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 import static com.flipkart.hbaseobjectmapper.testcases.util.LiteralsUtil.*;
 import static org.junit.Assert.*;
@@ -154,6 +164,109 @@ public class TestsAbstractHBDAO {
             for (int i = 0; i < citizens.size(); i++) {
                 assertEquals(String.format("[range scan] The result of get(%s, %s) returned unexpected entry at position " + i, startRowKey, endRowKey), records.get(i), citizens.get(i));
             }
+            try (Records<Citizen> citizenRecords = citizenDao.records(startRowKey, endRowKey, Integer.MAX_VALUE)) {
+                int i = 0;
+                for (Citizen citizen : citizenRecords) {
+                    assertEquals(String.format("[streaming range scan] The result of records(%s, %s) returned unexpected entry at position " + i, startRowKey, endRowKey), citizens.get(i), citizen);
+                    i++;
+                }
+                assertEquals("[streaming range scan] Unexpected number of records", citizens.size(), i);
+            }
+            try (Records<Citizen> citizenRecords = citizenDao.records(startRowKey, endRowKey, Integer.MAX_VALUE, 4, true)) {
+                int i = 0;
+                for (Citizen citizen : citizenRecords) {
+                    assertEquals(String.format("[parallel range scan] The result of records(%s, %s, ..) returned unexpected entry at position " + i, startRowKey, endRowKey), citizens.get(i), citizen);
+                    i++;
+                }
+                assertEquals("[parallel range scan] Unexpected number of records", citizens.size(), i);
+            }
+            for (int pageSize : new int[]{1, 2, 3, citizens.size(), citizens.size() + 1}) {
+                List<Citizen> pagedCitizens = new ArrayList<>();
+                String continuationToken = null;
+                int numPages = 0;
+                do {
+                    Page<Citizen> page = citizenDao.page(startRowKey, endRowKey, pageSize, continuationToken);
+                    assertTrue("[paged range scan] Page has more records than page size", page.getRecords().size() <= pageSize);
+                    pagedCitizens.addAll(page.getRecords());
+                    continuationToken = page.getContinuationToken();
+                    numPages++;
+                } while (continuationToken != null);
+                assertEquals("[paged range scan] Records read page by page (page size " + pageSize + ") differ from those read in one go", citizens, pagedCitizens);
+                assertEquals("[paged range scan] Unexpected number of pages for page size " + pageSize, Math.max(1, (citizens.size() + pageSize - 1) / pageSize), numPages);
+            }
+            Page<Citizen> firstPage = citizenDao.page(startRowKey, endRowKey, 2, null);
+            ScanOptions daoScanOptions = citizenDao.getScanOptions();
+            citizenDao.setScanOptions(new ScanOptions().withBatch(1));
+            try {
+                Page<Citizen> firstPageOfBatchedScan = citizenDao.page(startRowKey, endRowKey, 2, null);
+                assertEquals("[paged range scan] Page differs when DAO's scan options specify a batch size", firstPage.getRecords(), firstPageOfBatchedScan.getRecords());
+                assertEquals("[paged range scan] Continuation token differs when DAO's scan options specify a batch size", firstPage.getContinuationToken(), firstPageOfBatchedScan.getContinuationToken());
+            } finally {
+                citizenDao.setScanOptions(daoScanOptions);
+            }
+            try {
+                citizenDao.page(startRowKey, endRowKey, Integer.MAX_VALUE, null);
+                fail("[paged range scan] Page size that can't be exceeded by one should have been rejected");
+            } catch (IllegalArgumentException ignored) {
+            }
+
+            // Chunked multi-get (with duplicate and non-existent row keys)
+            List<String> rowKeysWithDuplicates = new ArrayList<>();
+            for (Citizen citizen : citizens) {
+                rowKeysWithDuplicates.add(citizen.composeRowKey());
+                rowKeysWithDuplicates.add("NONEXISTENT#1");
+                rowKeysWithDuplicates.add(citizens.get(0).composeRowKey());
+            }
+            List<Citizen> expectedCitizens = citizenDao.get(rowKeysWithDuplicates, Integer.MAX_VALUE);
+            for (int chunkSize : new int[]{1, 2, 5, 1000}) {
+                for (int parallelism : new int[]{1, 4}) {
+                    assertEquals(String.format("[chunked multi-get] Unexpected results for chunk size %d and parallelism %d", chunkSize, parallelism), expectedCitizens, citizenDao.get(rowKeysWithDuplicates, Integer.MAX_VALUE, chunkSize, parallelism));
+                }
+            }
+
+            // Streaming multi-get (rows delivered as region servers respond)
+            final Map<String, Citizen> streamedCitizens = Collections.synchronizedMap(new HashMap<String, Citizen>());
+            citizenDao.get(rowKeysWithDuplicates, Integer.MAX_VALUE, new RecordCallback<String, Citizen>() {
+                @Override
+                public void onRecord(String rowKey, Citizen citizen) {
+                    assertNull("[streaming multi-get] Row delivered more than once: " + rowKey, streamedCitizens.put(rowKey, citizen));
+                }
+            });
+            assertEquals("[streaming multi-get] Unexpected number of rows delivered", new HashSet<>(rowKeysWithDuplicates).size(), streamedCitizens.size());
+            for (int i = 0; i < rowKeysWithDuplicates.size(); i++) {
+                assertEquals("[streaming multi-get] Unexpected row for row key " + rowKeysWithDuplicates.get(i), expectedCitizens.get(i), streamedCitizens.get(rowKeysWithDuplicates.get(i)));
+            }
+
+            // Key-only operations
+            assertEquals("[count] Unexpected number of rows in range", citizens.size(), citizenDao.count(startRowKey, endRowKey));
+            try (RowKeys<String> rowKeys = citizenDao.keys(startRowKey, endRowKey)) {
+                int i = 0;
+                for (String rowKey : rowKeys) {
+                    assertEquals("[keys] Unexpected row key at position " + i, citizens.get(i).composeRowKey(), rowKey);
+                    i++;
+                }
+                assertEquals("[keys] Unexpected number of row keys", citizens.size(), i);
+            }
+            assertTrue("[exists] Row should have existed: " + startRowKey, citizenDao.exists(startRowKey));
+            assertFalse("[exists] Row shouldn't have existed", citizenDao.exists("NONEXISTENT#1"));
+            assertTrue("[existsAll] Unexpected flags", Arrays.equals(new boolean[]{true, false, true}, citizenDao.existsAll(Arrays.asList(startRowKey, "NONEXISTENT#1", citizens.get(1).composeRowKey()))));
+
+            // Projection (fetch only some fields)
+            final List<String> projectedFields = Arrays.asList("name", "sal");
+            List<Citizen> projectedCitizens = citizenDao.get(startRowKey, endRowKey, projectedFields);
+            for (int i = 0; i < projectedCitizens.size(); i++) {
+                Citizen expected = citizens.get(i), actual = projectedCitizens.get(i);
+                assertEquals("[projection] Row key mismatch", expected.composeRowKey(), actual.composeRowKey());
+                assertEquals("[projection] Projected field 'name' mismatch", expected.getName(), actual.getName());
+                assertEquals("[projection] Projected field 'sal' mismatch", expected.getSal(), actual.getSal());
+                assertNull("[projection] Field 'age' wasn't asked for, yet was fetched", actual.getAge());
+                assertEquals("[projection] Mismatch between get by row key and get by range", actual, citizenDao.get(actual.composeRowKey(), projectedFields));
+            }
+            try {
+                citizenDao.get(startRowKey, Collections.singletonList("unknownField"));
+                fail("Projection with an unknown field should have thrown " + IllegalArgumentException.class.getSimpleName());
+            } catch (IllegalArgumentException ignored) {
+            }
 
             // Range Get vs Bulk Get (Single-version)
             for (String f : citizenDao.getFields()) {
@@ -175,6 +288,31 @@ public class TestsAbstractHBDAO {
                 assertEquals("[Field " + f + "] Difference between 'bulk fetch by array of row keys' and 'bulk fetch by range of row keys' when fetched for partial range", fieldValuesBulkGetPartial, fieldValuesRangeGetPartial);
             }
 
+            // Multi-field fetch vs single-field fetches
+            List<String> fieldNames = Arrays.asList("name", "age", "sal");
+            Map<String, Map<String, Object>> multiFieldBulkGet = citizenDao.fetchFieldValues(allRowKeys, fieldNames);
+            assertEquals("[multi-field fetch] Difference between 'fetch by array of row keys' and 'fetch by range of row keys'", multiFieldBulkGet, citizenDao.fetchFieldValues("A", "z", fieldNames));
+            Map<String, Map<String, NavigableMap<Long, Object>>> multiFieldMultiVersionBulkGet = citizenDao.fetchFieldValues(allRowKeys, fieldNames, Integer.MAX_VALUE);
+            assertEquals("[multi-field fetch] Difference between 'bulk fetch by array of row keys' and 'bulk fetch by range of row keys'", multiFieldMultiVersionBulkGet, citizenDao.fetchFieldValues("A", "z", fieldNames, Integer.MAX_VALUE));
+            ScanOptions defaultScanOptions = citizenDao.getScanOptions();
+            citizenDao.setScanOptions(new ScanOptions().withBatch(1)); // rows come in parts, one column at a time
+            try {
+                assertEquals("[multi-field fetch] Fetch by range of row keys differs when scanned in batches", multiFieldBulkGet, citizenDao.fetchFieldValues("A", "z", fieldNames));
+                assertEquals("[multi-field fetch] Fetch by range of row keys differs when scanned in batches", multiFieldMultiVersionBulkGet, citizenDao.fetchFieldValues("A", "z", fieldNames, Integer.MAX_VALUE));
+            } finally {
+                citizenDao.setScanOptions(defaultScanOptions);
+            }
+            for (String f : fieldNames) {
+                Map<String, Object> singleFieldValues = citizenDao.fetchFieldValues(allRowKeys, f);
+                Map<String, NavigableMap<Long, Object>> singleFieldMultiVersionValues = citizenDao.fetchFieldValues(allRowKeys, f, Integer.MAX_VALUE);
+                for (String rowKey : allRowKeys) {
+                    Map<String, Object> rowValues = multiFieldBulkGet.get(rowKey);
+                    assertEquals("[multi-field fetch] Mismatch for field " + f + " of row " + rowKey, singleFieldValues.get(rowKey), rowValues == null ? null : rowValues.get(f));
+                    Map<String, NavigableMap<Long, Object>> rowVersions = multiFieldMultiVersionBulkGet.get(rowKey);
+                    assertEquals("[multi-field fetch] Mismatch for versions of field " + f + " of row " + rowKey, singleFieldMultiVersionValues.get(rowKey), rowVersions == null ? null : rowVersions.get(f));
+                }
+            }
+
             // Test for a single field (redundant test, but that's ok):
             Map<String, Object> actualSalaries = citizenDao.fetchFieldValues(allRowKeys, "sal");
             long actualSumOfSalaries = 0;
@@ -187,6 +325,20 @@ public class TestsAbstractHBDAO {
             }
             assertEquals(expectedSumOfSalaries, actualSumOfSalaries);
 
+            // Dirty field tracking (unchanged columns shouldn't be rewritten, so their timestamps shouldn't change)
+            citizenDao.setDirtyFieldTracking(true);
+            try {
+                final String trackedRowKey = records.get(0).composeRowKey();
+                final byte[] family = Bytes.toBytes("main"), column = Bytes.toBytes("name");
+                long timestampBefore = citizenDao.getHBaseTable().get(citizenDao.getGet(trackedRowKey)).getColumnLatestCell(family, column).getTimestamp();
+                Citizen trackedCitizen = citizenDao.get(trackedRowKey, Integer.MAX_VALUE);
+                citizenDao.persist(trackedCitizen);
+                assertEquals("[dirty field tracking] Unchanged column was rewritten", timestampBefore, citizenDao.getHBaseTable().get(citizenDao.getGet(trackedRowKey)).getColumnLatestCell(family, column).getTimestamp());
+                assertEquals("[dirty field tracking] Record changed upon persisting it unchanged", records.get(0), citizenDao.get(trackedRowKey, Integer.MAX_VALUE));
+            } finally {
+                citizenDao.setDirtyFieldTracking(false);
+            }
+
             // Test record deletion:
             Citizen citizenToBeDeleted = records.get(0);
             citizenDao.delete(citizenToBeDeleted);
@@ -199,6 +351,120 @@ public class TestsAbstractHBDAO {
             citizenDao.delete(new String[]{rowKey3, rowKey4});
             assertNull("Record was not deleted when deleted by 'array of row keys': " + rowKey3, citizenDao.get(rowKey3));
             assertNull("Record was not deleted when deleted by 'array of row keys': " + rowKey4, citizenDao.get(rowKey4));
+
+            // Writes below use rows that were never deleted (a row's delete marker masks versions written later with older or same timestamps)
+            List<Citizen> newCitizens = new ArrayList<>();
+            for (int uid = 201; uid <= 210; uid++) {
+                newCitizens.add(new Citizen("IND", uid, "Citizen" + uid, (short) 20, 1000 * uid, false, null, null, null, null, null, null, null, null, null));
+            }
+
+            // Buffered writes
+            final List<String> failedRowKeys = Collections.synchronizedList(new ArrayList<String>());
+            try (BufferedRecordWriter<String, Citizen> writer = citizenDao.bufferedWriter(64 * 1024, 100, new WriteFailureListener<String>() {
+                @Override
+                public void onFailure(String rowKey, Throwable cause, String regionServerName) {
+                    failedRowKeys.add(rowKey);
+                }
+            })) {
+                writer.persist(newCitizens.subList(0, 4));
+                writer.flush();
+                writer.delete(newCitizens.get(3));
+            }
+            assertTrue("[buffered writer] No writes should have failed: " + failedRowKeys, failedRowKeys.isEmpty());
+            for (int i = 0; i < 3; i++) {
+                assertEquals("[buffered writer] Record was not persisted", newCitizens.get(i), citizenDao.get(newCitizens.get(i).composeRowKey()));
+            }
+            assertNull("[buffered writer] Record was not deleted", citizenDao.get(newCitizens.get(3).composeRowKey()));
+
+            // Chunked bulk writes
+            List<Citizen> citizensToPersistInChunks = newCitizens.subList(4, newCitizens.size());
+            for (int chunkSize : new int[]{1, 2, 1000}) {
+                for (int parallelism : new int[]{1, 4}) {
+                    String context = String.format("[chunked bulk writes, chunk size %d, parallelism %d]", chunkSize, parallelism);
+                    assertTrue(context + " No chunk should have failed", citizenDao.persist(citizensToPersistInChunks, chunkSize, parallelism).isEmpty());
+                    for (Citizen citizen : citizensToPersistInChunks) {
+                        assertEquals(context + " Record was not persisted", citizen, citizenDao.get(citizen.composeRowKey(), Integer.MAX_VALUE));
+                    }
+                }
+            }
+            assertTrue("[chunked bulk writes] No chunk should have failed", citizenDao.delete(citizensToPersistInChunks.subList(0, 3), 2, 4).isEmpty());
+            assertTrue("[chunked bulk writes] No chunk should have failed", citizenDao.delete(new String[]{citizensToPersistInChunks.get(3).composeRowKey(), citizensToPersistInChunks.get(4).composeRowKey()}, 1, 4).isEmpty());
+            for (int i = 0; i < 5; i++) {
+                assertNull("[chunked bulk writes] Record was not deleted", citizenDao.get(citizensToPersistInChunks.get(i).composeRowKey()));
+            }
+            assertNotNull("[chunked bulk writes] Record shouldn't have been deleted", citizenDao.get(citizensToPersistInChunks.get(5).composeRowKey()));
+
+            // Deletion of versions and fields
+            final Citizen multiVersionedCitizen = records.get(5), otherCitizen = records.get(6);
+            final String multiVersionedRowKey = multiVersionedCitizen.composeRowKey(), otherRowKey = otherCitizen.composeRowKey();
+            NavigableMap<Long, Object> phoneNumberVersions = citizenDao.fetchFieldValue(multiVersionedRowKey, "phoneNumber", Integer.MAX_VALUE);
+            assertTrue("[deleteVersions] Test record should have had more than one version", phoneNumberVersions.size() > 1);
+            citizenDao.deleteVersions(multiVersionedRowKey, "phoneNumber", phoneNumberVersions.firstKey());
+            assertEquals("[deleteVersions] Only the oldest version should have been deleted", phoneNumberVersions.tailMap(phoneNumberVersions.firstKey(), false), citizenDao.fetchFieldValue(multiVersionedRowKey, "phoneNumber", Integer.MAX_VALUE));
+            citizenDao.deleteFields(otherRowKey, "sal", "isPassportHolder");
+            Citizen citizenWithFieldsDeleted = citizenDao.get(otherRowKey);
+            assertNull("[deleteFields] Field wasn't deleted", citizenWithFieldsDeleted.getSal());
+            assertNull("[deleteFields] Field wasn't deleted", citizenWithFieldsDeleted.getPassportHolder());
+            assertEquals("[deleteFields] Field that wasn't specified was deleted", otherCitizen.getName(), citizenWithFieldsDeleted.getName());
+
+            // Updates (null fields mean delete)
+            citizenDao.update(new Citizen("IND", multiVersionedCitizen.getUid(), "Bharat", (short) 40, null, null, null, null, null, null, null, null, null, null, null));
+            Citizen updatedCitizen = citizenDao.get(multiVersionedRowKey, Integer.MAX_VALUE);
+            assertEquals("[update] Non-null field wasn't written", "Bharat", updatedCitizen.getName());
+            assertEquals("[update] Non-null field wasn't written", Short.valueOf((short) 40), updatedCitizen.getAge());
+            assertNull("[update] Column of null field wasn't deleted", updatedCitizen.getSal());
+            assertNull("[update] Column of null (multi-versioned) field wasn't deleted", updatedCitizen.getPhoneNumber());
+
+            // Compare-and-set writes
+            Citizen casCitizen = newCitizens.get(0);
+            assertFalse("[persistIf] Object was persisted though field didn't have expected value", citizenDao.persistIf(casCitizen, "name", "Someone else"));
+            assertTrue("[persistIf] Object wasn't persisted though field had expected value", citizenDao.persistIf(casCitizen, "name", casCitizen.getName()));
+            try {
+                citizenDao.persistIf(casCitizen, "age", 20);
+                fail("[persistIf] Expected value of a different type than field should have been rejected");
+            } catch (IllegalArgumentException ignored) {
+            }
+            Citizen citizenToInsert = new Citizen("IND", 211, "Citizen211", null, null, null, null, null, null, null, null, null, null, null, null);
+            assertTrue("[persistIf] 'Insert if not exists' failed for a new row", citizenDao.persistIf(citizenToInsert, "name", null));
+            assertFalse("[persistIf] 'Insert if not exists' succeeded for an existing row", citizenDao.persistIf(citizenToInsert, "name", null));
+            Citizen versionedCitizen = newCitizens.get(1), staleCopy = new Citizen("IND", versionedCitizen.getUid(), "Stale", null, null, null, null, null, null, null, null, null, null, null, null);
+            assertTrue("[persistVersioned] Object with no version should have been persisted", citizenDao.persistVersioned(versionedCitizen, "f3"));
+            assertEquals("[persistVersioned] Version wasn't incremented", Long.valueOf(1), versionedCitizen.getF3());
+            assertFalse("[persistVersioned] Stale object was persisted", citizenDao.persistVersioned(staleCopy, "f3"));
+            assertNull("[persistVersioned] Version of stale object was changed", staleCopy.getF3());
+            assertTrue("[persistVersioned] Object with latest version should have been persisted", citizenDao.persistVersioned(versionedCitizen, "f3"));
+            assertEquals("[persistVersioned] Version wasn't incremented", versionedCitizen, citizenDao.get(versionedCitizen.composeRowKey()));
+            Citizen citizenToUpdate = newCitizens.get(2);
+            assertTrue("[updateIf] Object wasn't persisted though field had expected value", citizenDao.updateIf(new Citizen("IND", citizenToUpdate.getUid(), citizenToUpdate.getName(), null, null, null, null, null, null, null, null, null, null, null, null), "sal", citizenToUpdate.getSal()));
+            assertNull("[updateIf] Column of null field wasn't deleted", citizenDao.get(citizenToUpdate.composeRowKey()).getSal());
+
+            // Dirty field tracking across deletes by row key (an object read before it's row was deleted should be written in full)
+            citizenDao.setDirtyFieldTracking(true);
+            try {
+                final String trackedRowKey = newCitizens.get(9).composeRowKey();
+                Citizen trackedCitizen = citizenDao.get(trackedRowKey);
+                citizenDao.delete(trackedRowKey);
+                Uninterruptibles.sleepUninterruptibly(1, TimeUnit.MILLISECONDS); // writes in same millisecond as a delete are masked by it
+                citizenDao.persist(trackedCitizen);
+                assertEquals("[dirty field tracking] Object read before it's row was deleted by row key wasn't persisted in full", newCitizens.get(9), citizenDao.get(trackedRowKey));
+                trackedCitizen = citizenDao.get(trackedRowKey);
+                citizenDao.deleteFields(trackedRowKey, "sal");
+                Uninterruptibles.sleepUninterruptibly(1, TimeUnit.MILLISECONDS);
+                citizenDao.persist(trackedCitizen);
+                assertEquals("[dirty field tracking] Field deleted (by deleteFields) after object was read wasn't rewritten", newCitizens.get(9).getSal(), citizenDao.get(trackedRowKey).getSal());
+                trackedCitizen = citizenDao.get(trackedRowKey);
+                citizenDao.deleteVersions(trackedRowKey, "sal", citizenDao.fetchFieldValue(trackedRowKey, "sal", 1).lastKey());
+                citizenDao.update(trackedCitizen);
+                assertEquals("[dirty field tracking] Field deleted (by deleteVersions) after object was read wasn't rewritten", newCitizens.get(9).getSal(), citizenDao.get(trackedRowKey).getSal());
+                trackedCitizen = citizenDao.get(trackedRowKey);
+                try (BufferedRecordWriter<String, Citizen> writer = citizenDao.bufferedWriter()) {
+                    writer.persist(new Citizen("IND", trackedCitizen.getUid(), "Overwritten", null, null, null, null, null, null, null, null, null, null, null, null));
+                }
+                citizenDao.persist(trackedCitizen);
+                assertEquals("[dirty field tracking] Field overwritten (by buffered writer) after object was read wasn't rewritten", trackedCitizen.getName(), citizenDao.get(trackedRowKey).getName());
+            } finally {
+                citizenDao.setDirtyFieldTracking(false);
+            }
         }
     }
 
@@ -273,6 +539,18 @@ public class TestsAbstractHBDAO {
             assertEquals("Entry with the highest version (i.e. timestamp) isn't the one that was returned by DAO get", crawlNoVersion.getF1(), testNumbers[testNumbers.length - 1]);
             assertArrayEquals("Issue with version history implementation when written as versioned and read as unversioned", testNumbersOfRange, crawlDAO.get("key2", NUM_VERSIONS).getF1().values().toArray());
 
+            // Time-range and as-of reads (only the last NUM_VERSIONS versions, at timestamps 'timestamp + 3' to 'timestamp + 5', are retained)
+            final long lastTimestamp = timestamp + testNumbers.length - 1;
+            assertEquals("[as-of read] Unexpected latest version", nm(e(lastTimestamp - 1, testNumbers[testNumbers.length - 2])), crawlDAO.get("key2", 1, TimestampRange.asOf(lastTimestamp - 1)).getF1());
+            assertEquals("[as-of read] Unexpected value", testNumbers[testNumbers.length - 2], crawlDAO.fetchFieldValue("key2", "f1", TimestampRange.asOf(lastTimestamp - 1)));
+            assertEquals("[exact timestamp read] Unexpected value", testNumbers[testNumbers.length - 3], crawlDAO.fetchFieldValue("key2", "f1", TimestampRange.at(lastTimestamp - 2)));
+            NavigableMap<Long, Object> versionsInRange = crawlDAO.fetchFieldValue("key2", "f1", NUM_VERSIONS, TimestampRange.between(lastTimestamp - 2, lastTimestamp));
+            assertArrayEquals("[time-range read] Unexpected versions", Arrays.copyOfRange(testNumbers, testNumbers.length - 3, testNumbers.length - 1), versionsInRange.values().toArray());
+            assertEquals("[time-range read] Bulk fetch differs from single-row fetch", versionsInRange, crawlDAO.fetchFieldValues(new String[]{"key2"}, "f1", NUM_VERSIONS, TimestampRange.between(lastTimestamp - 2, lastTimestamp)).get("key2"));
+            assertEquals("[time-range read] Range fetch differs from single-row fetch", versionsInRange, crawlDAO.fetchFieldValues("key2", "key3", "f1", NUM_VERSIONS, TimestampRange.between(lastTimestamp - 2, lastTimestamp)).get("key2"));
+            assertEquals("[time-range read] Entity read differs from field read", versionsInRange, crawlDAO.get("key2", NUM_VERSIONS, TimestampRange.between(lastTimestamp - 2, lastTimestamp)).getF1());
+            assertNull("[as-of read] Row should have had no version before it's first write", crawlDAO.get("key2", NUM_VERSIONS, TimestampRange.asOf(timestamp - 1)));
+
             List<String> rowKeysList = new ArrayList<>();
             for (int v = 0; v <= 9; v++) {
                 for (int k = 1; k <= 4; k++) {
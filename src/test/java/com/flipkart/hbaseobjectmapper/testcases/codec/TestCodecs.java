@@ -3,6 +3,8 @@ package com.flipkart.hbaseobjectmapper.testcases.codec;
 
 import com.flipkart.hbaseobjectmapper.*;
 import com.flipkart.hbaseobjectmapper.codec.BestSuitCodec;
+import com.flipkart.hbaseobjectmapper.codec.ByteRangeCodec;
+import com.flipkart.hbaseobjectmapper.codec.ByteRangeCodecAdapter;
 import com.flipkart.hbaseobjectmapper.codec.Codec;
 import com.flipkart.hbaseobjectmapper.codec.JavaObjectStreamCodec;
 import com.flipkart.hbaseobjectmapper.codec.exceptions.DeserializationException;
@@ -14,19 +16,23 @@ import com.flipkart.hbaseobjectmapper.testcases.entities.Citizen;
 import org.apache.hadoop.hbase.client.Put;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.NavigableMap;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
 @SuppressWarnings("unchecked")
 public class TestCodecs {
+    private static final byte[] PADDING = {1, 2, 3};
 
     @Test
     public void testJavaObjectStreamCodec() {
@@ -92,10 +98,51 @@ public class TestCodecs {
     }
 
 
+    /**
+     * A {@link ByteArrayOutputStream} that fails writes once closed (a codec must not close a stream it's given, since caller may write more to it)
+     */
+    private static class CloseSensitiveOutputStream extends ByteArrayOutputStream {
+        private boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            checkNotClosed();
+            super.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            checkNotClosed();
+            super.write(b, off, len);
+        }
+
+        private void checkNotClosed() {
+            if (closed) {
+                throw new IllegalStateException("Stream was closed by codec");
+            }
+        }
+    }
+
     private void verifyFieldSerDe(Codec codec, String fieldFullName, Type type, Serializable fieldValue, Map<String, String> flags) throws SerializationException, DeserializationException {
         byte[] bytes = codec.serialize(fieldValue, flags);
         Serializable deserializedFieldValue = codec.deserialize(bytes, type, flags);
         assertEquals(String.format("Field %s got corrupted after serialization and deserialization of it's value:%n%s%n", fieldFullName, fieldValue), fieldValue, deserializedFieldValue);
+        if (bytes == null)
+            return;
+        ByteRangeCodec byteRangeCodec = ByteRangeCodecAdapter.of(codec);
+        ByteArrayOutputStream outputStream = new CloseSensitiveOutputStream();
+        outputStream.write(PADDING, 0, PADDING.length);
+        byteRangeCodec.serialize(fieldValue, flags, outputStream);
+        outputStream.write(PADDING, 0, PADDING.length);
+        byte[] paddedBytes = outputStream.toByteArray();
+        assertArrayEquals(String.format("Field %s serialized differently into a stream, for value:%n%s%n", fieldFullName, fieldValue), bytes, Arrays.copyOfRange(paddedBytes, PADDING.length, paddedBytes.length - PADDING.length));
+        Serializable deserializedFieldValueFromRange = byteRangeCodec.deserialize(paddedBytes, PADDING.length, bytes.length, type, flags);
+        assertEquals(String.format("Field %s got corrupted after serialization and deserialization (from a range of byte array) of it's value:%n%s%n", fieldFullName, fieldValue), fieldValue, deserializedFieldValueFromRange);
     }
 
     @Test